@@ -0,0 +1,95 @@
+package com.github.skywa04885.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Generators for the synthetic input data used by the benchmarks, always seeded so runs are comparable.
+ */
+public final class BenchmarkData {
+    /**
+     * The seed used for all the generated data.
+     */
+    public static final long SEED = 0x5EED_CAFEL;
+
+    /**
+     * The distribution of the values in a generated array.
+     */
+    public enum Distribution {
+        /**
+         * Uniformly random values.
+         */
+        RANDOM,
+        /**
+         * Values that are already in ascending order.
+         */
+        SORTED,
+        /**
+         * Values that are in descending order.
+         */
+        REVERSED,
+        /**
+         * Values in ascending order where one percent of them has been swapped with a random other.
+         */
+        NEARLY_SORTED,
+        /**
+         * Random values drawn from a very small set of distinct values.
+         */
+        FEW_UNIQUE
+    }
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Generate an array of integers with the given size and distribution.
+     * @param size The number of integers to generate.
+     * @param distribution The distribution of the generated integers.
+     * @return The generated integers.
+     */
+    public static Integer[] integers(final int size, final Distribution distribution) {
+        final Random random = new Random(SEED);
+        final Integer[] array = new Integer[size];
+
+        switch (distribution) {
+            case RANDOM -> {
+                for (int i = 0; i < size; ++i) array[i] = random.nextInt();
+            }
+            case SORTED -> {
+                for (int i = 0; i < size; ++i) array[i] = i;
+            }
+            case REVERSED -> {
+                for (int i = 0; i < size; ++i) array[i] = size - i;
+            }
+            case NEARLY_SORTED -> {
+                for (int i = 0; i < size; ++i) array[i] = i;
+                for (int i = 0; i < size / 100; ++i) {
+                    final int j = random.nextInt(size);
+                    final int k = random.nextInt(size);
+                    final Integer temp = array[j];
+                    array[j] = array[k];
+                    array[k] = temp;
+                }
+            }
+            case FEW_UNIQUE -> {
+                for (int i = 0; i < size; ++i) array[i] = random.nextInt(16);
+            }
+        }
+
+        return array;
+    }
+
+    /**
+     * Generate an array of random indices in the range [0, bound), used to drive random access.
+     * @param count The number of indices to generate.
+     * @param bound The exclusive upper bound of the indices.
+     * @return The generated indices.
+     */
+    public static int[] indices(final int count, final int bound) {
+        final Random random = new Random(SEED);
+        final int[] indices = new int[count];
+
+        for (int i = 0; i < count; ++i) indices[i] = random.nextInt(bound);
+
+        return indices;
+    }
+}
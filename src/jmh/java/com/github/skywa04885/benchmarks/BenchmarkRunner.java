@@ -0,0 +1,58 @@
+package com.github.skywa04885.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of the benchmarks jar, runs the selected benchmarks with the GC profiler attached so that every
+ *  result also reports the allocation rate.
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Run the benchmarks, accepting the regular JMH command line options (e.g. a benchmark regex or -p size=1000).
+     * @param args The JMH command line arguments.
+     * @throws CommandLineOptionException If the command line arguments are invalid.
+     * @throws IOException If the help could not be printed.
+     * @throws RunnerException If running the benchmarks failed.
+     */
+    public static void main(final String[] args)
+            throws CommandLineOptionException, IOException, RunnerException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        // Print the help and stop if that's all that was asked for.
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+
+        final Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        final Runner runner = new Runner(options);
+
+        // Only list the matching benchmarks if that's what was asked for, otherwise run them.
+        if (commandLineOptions.shouldList()) {
+            runner.list();
+        } else if (commandLineOptions.shouldListWithParams()) {
+            runner.listWithParams(commandLineOptions);
+        } else if (commandLineOptions.shouldListProfilers()) {
+            commandLineOptions.listProfilers();
+        } else if (commandLineOptions.shouldListResultFormats()) {
+            commandLineOptions.listResultFormats();
+        } else {
+            runner.run();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyGraph;
+
+import java.util.*;
+
+/**
+ * The original implementation of Dijkstra's algorithm that linearly scans all open vertices for the one with the
+ *  shortest distance in every iteration, kept as the baseline for the priority queue based MyDijkstraPathFinder.
+ * @param <TVertex> The type of vertices used.
+ */
+public class LinearScanDijkstraPathFinder<TVertex> {
+    /**
+     * The distances to the vertices.
+     */
+    private final Map<TVertex, Integer> distances = new HashMap<>();
+
+    /**
+     * The parents of the vertices on their shortest paths.
+     */
+    private final Map<TVertex, TVertex> parents = new HashMap<>();
+
+    /**
+     * Traverse the entire graph starting with the given origin vertex.
+     * @param graph        The graph to traverse.
+     * @param originVertex The vertex to start the traversal for.
+     */
+    public void traverse(
+            final MyGraph<TVertex> graph,
+            final TVertex originVertex
+    ) {
+        graph.getVertices().forEach(vertex -> distances.put(vertex, Integer.MAX_VALUE));
+        distances.put(originVertex, 0);
+
+        final Set<TVertex> openVertices = new HashSet<>(graph.getVertices());
+        final Set<TVertex> closedVertices = new HashSet<>();
+
+        while (!openVertices.isEmpty()) {
+            // Scan all the open vertices for the one with the shortest distance.
+            final TVertex fromVertex = openVertices.stream()
+                    .min(Comparator.comparingInt(distances::get))
+                    .orElseThrow();
+            final int fromDistance = distances.get(fromVertex);
+
+            graph.getEdgesOf(fromVertex).orElseThrow().forEach(edge -> {
+                final TVertex toVertex = edge.getTo();
+
+                if (closedVertices.contains(toVertex)) {
+                    return;
+                }
+
+                if (fromDistance + edge.getWeight() > distances.get(toVertex)) {
+                    return;
+                }
+
+                parents.put(toVertex, fromVertex);
+                distances.put(toVertex, fromDistance + edge.getWeight());
+            });
+
+            openVertices.remove(fromVertex);
+            closedVertices.add(fromVertex);
+        }
+    }
+
+    /**
+     * Get the shortest distance to the given vertex, found by the traversal.
+     * @param vertex The vertex to get the distance to.
+     * @return The distance to the vertex.
+     */
+    public int getDistance(final TVertex vertex) {
+        return distances.get(vertex);
+    }
+}
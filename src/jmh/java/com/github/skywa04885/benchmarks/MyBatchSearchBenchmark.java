@@ -0,0 +1,59 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyBinarySearch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of searching for a batch of sorted queries at once, compared to a search per query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyBatchSearchBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"1024", "65536"})
+    private int queryCount;
+
+    private int[] sorted;
+    private int[] queries;
+
+    @Setup
+    public void setup() {
+        sorted = new int[size];
+        for (int i = 0; i < size; ++i) {
+            sorted[i] = 2 * i;
+        }
+
+        // Half of the queries are present in the array.
+        queries = BenchmarkData.indices(queryCount, 2 * size);
+        Arrays.sort(queries);
+    }
+
+    /**
+     * Search for every query with its own branchless search.
+     */
+    @Benchmark
+    public int[] searchPerQuery() {
+        final int[] indices = new int[queries.length];
+        for (int q = 0; q < queries.length; ++q) {
+            indices[q] = MyBinarySearch.binarySearch(sorted, queries[q]);
+        }
+        return indices;
+    }
+
+    /**
+     * Search for all the queries with the batch search.
+     */
+    @Benchmark
+    public int[] searchBatch() {
+        return MyBinarySearch.binarySearchAll(sorted, queries);
+    }
+}
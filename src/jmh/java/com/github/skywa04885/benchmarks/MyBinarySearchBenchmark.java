@@ -0,0 +1,93 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyBinarySearch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the binary search.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyBinarySearchBenchmark {
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private Integer[] sorted;
+    private Integer[] keys;
+    private Integer[] rangeEnds;
+    private int[] sortedInts;
+    private int[] intKeys;
+    private MyBinarySearch.SearchIndex index;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        sorted = BenchmarkData.integers(size, BenchmarkData.Distribution.SORTED);
+
+        // Pick the keys up front, so no boxing happens inside the measured method.
+        final int[] indices = BenchmarkData.indices(1024, size);
+        keys = new Integer[indices.length];
+        for (int i = 0; i < indices.length; ++i) {
+            keys[i] = sorted[indices[i]];
+        }
+
+        // Every range query covers about a hundredth of the array.
+        rangeEnds = new Integer[keys.length];
+        for (int i = 0; i < keys.length; ++i) {
+            rangeEnds[i] = keys[i] + size / 100;
+        }
+
+        sortedInts = new int[size];
+        for (int i = 0; i < size; ++i) {
+            sortedInts[i] = sorted[i];
+        }
+
+        intKeys = new int[indices.length];
+        for (int i = 0; i < indices.length; ++i) {
+            intKeys[i] = keys[i];
+        }
+
+        index = new MyBinarySearch.SearchIndex(sortedInts);
+
+        cursor = 0;
+    }
+
+    /**
+     * Search for a random key that is present in the array.
+     */
+    @Benchmark
+    public int binarySearch() {
+        return MyBinarySearch.binarySearch(sorted, keys[cursor++ & (keys.length - 1)]);
+    }
+
+    /**
+     * Find the indices of the values in a random range covering a hundredth of the array.
+     */
+    @Benchmark
+    public int searchRange() {
+        final int i = cursor++ & (keys.length - 1);
+        return MyBinarySearch.searchRange(sorted, keys[i], rangeEnds[i]).size();
+    }
+
+    /**
+     * Search for a random key that is present in the array of ints, with the branchless search.
+     */
+    @Benchmark
+    public int branchlessBinarySearch() {
+        return MyBinarySearch.binarySearch(sortedInts, intKeys[cursor++ & (intKeys.length - 1)]);
+    }
+
+    /**
+     * Search for a random key that is present in the array of ints, with the search index.
+     */
+    @Benchmark
+    public int searchIndex() {
+        return index.binarySearch(intKeys[cursor++ & (intKeys.length - 1)]);
+    }
+}
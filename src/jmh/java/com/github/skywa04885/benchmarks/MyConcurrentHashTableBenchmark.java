@@ -0,0 +1,81 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyConcurrentHashTable;
+import com.github.skywa04885.MyHashTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded benchmarks of the concurrent hash table against a MyHashTable behind a global lock, using a mix of
+ *  lookups and insertions on a shared table. Run with -t to change the number of threads, e.g. -t 1, -t 4, -t max.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class MyConcurrentHashTableBenchmark {
+    @Param({"100000"})
+    private int size;
+
+    /**
+     * The percentage of the operations that are insertions instead of lookups.
+     */
+    @Param({"0", "10", "50"})
+    private int writePercentage;
+
+    private Integer[] keys;
+    private MyHashTable<Integer, Integer> lockedTable;
+    private MyConcurrentHashTable<Integer, Integer> concurrentTable;
+
+    @Setup
+    public void setup() {
+        keys = BenchmarkData.integers(size, BenchmarkData.Distribution.RANDOM);
+        lockedTable = new MyHashTable<>();
+        concurrentTable = new MyConcurrentHashTable<>();
+
+        for (final Integer key : keys) {
+            lockedTable.insert(key, key);
+            concurrentTable.insert(key, key);
+        }
+    }
+
+    /**
+     * Perform a random lookup or insertion on the MyHashTable, holding the global lock.
+     */
+    @Benchmark
+    public Optional<Integer> globalLock() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Integer key = keys[random.nextInt(size)];
+
+        synchronized (lockedTable) {
+            if (random.nextInt(100) < writePercentage) {
+                lockedTable.insert(key, key);
+                return Optional.empty();
+            }
+
+            return lockedTable.get(key);
+        }
+    }
+
+    /**
+     * Perform a random lookup or insertion on the concurrent hash table.
+     */
+    @Benchmark
+    public Integer concurrent() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Integer key = keys[random.nextInt(size)];
+
+        if (random.nextInt(100) < writePercentage) {
+            concurrentTable.insert(key, key);
+            return null;
+        }
+
+        return concurrentTable.getOrDefault(key, null);
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyDijkstraPathFinder;
+import com.github.skywa04885.MyGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of Dijkstra's algorithm on synthetic sparse graphs, comparing the priority queue based
+ *  MyDijkstraPathFinder against the original linear scan implementation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyDijkstraPathFinderBenchmark {
+    @Param({"MyDijkstraPathFinder", "LinearScan"})
+    private String implementation;
+
+    @Param({"100", "1000", "5000"})
+    private int vertices;
+
+    /**
+     * The number of outgoing edges per vertex, in addition to the edge that makes the graph connected.
+     */
+    @Param({"4"})
+    private int degree;
+
+    private MyGraph<Integer> graph;
+
+    @Setup
+    public void setup() {
+        graph = createGraph(vertices, degree);
+    }
+
+    /**
+     * Create a random graph in which every vertex can be reached from vertex zero.
+     * @param vertices The number of vertices in the graph.
+     * @param degree The number of random outgoing edges per vertex.
+     * @return The created graph.
+     */
+    static MyGraph<Integer> createGraph(final int vertices, final int degree) {
+        final Random random = new Random(BenchmarkData.SEED);
+        final MyGraph<Integer> graph = new MyGraph<>();
+
+        for (int vertex = 0; vertex < vertices; ++vertex) {
+            graph.addVertex(vertex);
+        }
+
+        for (int vertex = 0; vertex < vertices; ++vertex) {
+            // Chain the vertices, so the entire graph is reachable from the origin.
+            if (vertex + 1 < vertices) {
+                graph.addEdge(vertex, vertex + 1, 1 + random.nextInt(100));
+            }
+
+            for (int i = 0; i < degree; ++i) {
+                graph.addEdge(vertex, random.nextInt(vertices), 1 + random.nextInt(100));
+            }
+        }
+
+        return graph;
+    }
+
+    /**
+     * Traverse the entire graph starting from vertex zero.
+     */
+    @Benchmark
+    public Object traverse() {
+        return switch (implementation) {
+            case "MyDijkstraPathFinder" -> {
+                final MyDijkstraPathFinder<Integer> pathFinder = new MyDijkstraPathFinder<>();
+                pathFinder.traverse(graph, 0);
+                yield pathFinder;
+            }
+            case "LinearScan" -> {
+                final LinearScanDijkstraPathFinder<Integer> pathFinder = new LinearScanDijkstraPathFinder<>();
+                pathFinder.traverse(graph, 0);
+                yield pathFinder;
+            }
+            default -> throw new IllegalArgumentException("Unknown path finder: " + implementation);
+        };
+    }
+}
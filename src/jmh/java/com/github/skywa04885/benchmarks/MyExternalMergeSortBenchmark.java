@@ -0,0 +1,70 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyDualPivotQuickSort;
+import com.github.skywa04885.MyExternalMergeSort;
+import com.github.skywa04885.MyRecordSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the external merge sort on a file of random integers, across memory budgets. The smaller the budget,
+ *  the more runs are spilled to disk and merged.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyExternalMergeSortBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"10000", "100000", "1000000"})
+    private int memoryBudget;
+
+    private Path directory;
+    private Path input;
+    private Path output;
+    private MyExternalMergeSort<Integer> externalMergeSort;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("external-merge-sort");
+        input = directory.resolve("input.bin");
+        output = directory.resolve("output.bin");
+
+        final Random random = new Random(BenchmarkData.SEED);
+        try (final DataOutputStream stream = new DataOutputStream(Files.newOutputStream(input))) {
+            for (int i = 0; i < size; ++i) {
+                stream.writeInt(random.nextInt());
+            }
+        }
+
+        externalMergeSort = new MyExternalMergeSort<>(MyDualPivotQuickSort.getInstance(),
+                MyRecordSerializer.integers(), Comparator.naturalOrder(), memoryBudget,
+                MyExternalMergeSort.DEFAULT_FAN_IN, directory);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Sort the input file into the output file.
+     */
+    @Benchmark
+    public void sort() throws IOException {
+        externalMergeSort.sort(input, output);
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyHashTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the hash table, under a varying number of entries and initial buckets (and thereby load).
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyHashTableBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    /**
+     * The number of initial buckets, a small number forces many rehashes during the insertions.
+     */
+    @Param({"16", "262144"})
+    private int buckets;
+
+    private Integer[] keys;
+    private int[] indices;
+    private MyHashTable<Integer, Integer> table;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        keys = BenchmarkData.integers(size, BenchmarkData.Distribution.RANDOM);
+        indices = BenchmarkData.indices(1024, size);
+        table = new MyHashTable<>(buckets);
+
+        for (final Integer key : keys) {
+            table.insert(key, key);
+        }
+
+        cursor = 0;
+    }
+
+    private int nextIndex() {
+        return indices[cursor++ & (indices.length - 1)];
+    }
+
+    /**
+     * Fill an empty hash table with all the keys.
+     */
+    @Benchmark
+    public MyHashTable<Integer, Integer> insert() {
+        final MyHashTable<Integer, Integer> table = new MyHashTable<>(buckets);
+
+        for (final Integer key : keys) {
+            table.insert(key, key);
+        }
+
+        return table;
+    }
+
+    /**
+     * Get the value of a random key present in the table.
+     */
+    @Benchmark
+    public Optional<Integer> getHit() {
+        return table.get(keys[nextIndex()]);
+    }
+
+    /**
+     * Get the value of a key that is (almost certainly) not present in the table.
+     */
+    @Benchmark
+    public Optional<Integer> getMiss() {
+        return table.get(~keys[nextIndex()]);
+    }
+
+    /**
+     * Delete a random key and insert it back again so the size of the table stays the same.
+     */
+    @Benchmark
+    public void deleteAndInsert(final Blackhole blackhole) {
+        final Integer key = keys[nextIndex()];
+        blackhole.consume(table.delete(key));
+        table.insert(key, key);
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyArrayList;
+import com.github.skywa04885.MyIntArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the int specialized array list against the boxing MyArrayList.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyIntArrayListBenchmark {
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private int[] values;
+    private MyIntArrayList intList;
+    private MyArrayList<Integer> boxedList;
+
+    @Setup
+    public void setup() {
+        values = BenchmarkData.indices(size, Integer.MAX_VALUE);
+        intList = new MyIntArrayList();
+        intList.addAll(values);
+        boxedList = new MyArrayList<>(Integer.class);
+        for (final int value : values) {
+            boxedList.add(value);
+        }
+    }
+
+    /**
+     * Fill an empty int list one value at a time.
+     */
+    @Benchmark
+    public MyIntArrayList addInt() {
+        final MyIntArrayList list = new MyIntArrayList();
+
+        for (final int value : values) {
+            list.add(value);
+        }
+
+        return list;
+    }
+
+    /**
+     * Fill an empty int list with a single bulk add.
+     */
+    @Benchmark
+    public MyIntArrayList addAllInt() {
+        final MyIntArrayList list = new MyIntArrayList();
+        list.addAll(values);
+        return list;
+    }
+
+    /**
+     * Fill an empty boxing list one value at a time.
+     */
+    @Benchmark
+    public MyArrayList<Integer> addBoxed() {
+        final MyArrayList<Integer> list = new MyArrayList<>(Integer.class);
+
+        for (final int value : values) {
+            list.add(value);
+        }
+
+        return list;
+    }
+
+    /**
+     * Sum all the values of the int list using indexed access.
+     */
+    @Benchmark
+    public long sumInt() {
+        long sum = 0;
+
+        for (int i = 0; i < intList.size(); ++i) {
+            sum += intList.get(i);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Sum all the values of the boxing list using indexed access.
+     */
+    @Benchmark
+    public long sumBoxed() {
+        long sum = 0;
+
+        for (int i = 0; i < boxedList.size(); ++i) {
+            sum += boxedList.get(i);
+        }
+
+        return sum;
+    }
+}
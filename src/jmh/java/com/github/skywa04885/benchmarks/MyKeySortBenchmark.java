@@ -0,0 +1,77 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyDualPivotQuickSort;
+import com.github.skywa04885.MyRadixSort;
+import com.github.skywa04885.MyTimSort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of sorting records by one of their fields, using a comparator versus the precomputed key sorts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyKeySortBenchmark {
+    /**
+     * Record that is sorted by its key.
+     */
+    public record Item(int key, String name) {
+    }
+
+    private static final Comparator<Item> BY_KEY = Comparator.comparingInt(Item::key);
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "FEW_UNIQUE"})
+    private BenchmarkData.Distribution distribution;
+
+    private Item[] items;
+
+    @Setup
+    public void setup() {
+        final Integer[] keys = BenchmarkData.integers(size, distribution);
+        items = new Item[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = new Item(keys[i], "item-" + i);
+        }
+    }
+
+    /**
+     * Sort the items with TimSort, comparing them by a comparator on their keys.
+     */
+    @Benchmark
+    public Item[] timSortComparator() {
+        return MyTimSort.getInstance().sort(items, BY_KEY);
+    }
+
+    /**
+     * Sort the items with dual-pivot quicksort, comparing them by a comparator on their keys.
+     */
+    @Benchmark
+    public Item[] dualPivotQuickSortComparator() {
+        return MyDualPivotQuickSort.getInstance().sort(items, BY_KEY);
+    }
+
+    /**
+     * Sort the items by their precomputed keys, with the indices sorted by dual-pivot quicksort.
+     */
+    @Benchmark
+    public Item[] dualPivotQuickSortIntKey() {
+        return MyDualPivotQuickSort.getInstance().sortByIntKey(items, Item::key);
+    }
+
+    /**
+     * Sort the items by their precomputed keys, with the indices sorted by radix sort.
+     */
+    @Benchmark
+    public Item[] radixSortIntKey() {
+        return MyRadixSort.getInstance().sortByIntKey(items, Item::key);
+    }
+}
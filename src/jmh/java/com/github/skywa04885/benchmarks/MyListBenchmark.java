@@ -0,0 +1,124 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyArrayList;
+import com.github.skywa04885.MyLinkedList;
+import com.github.skywa04885.MyList;
+import com.github.skywa04885.MyUnrolledLinkedList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the basic operations of the list implementations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyListBenchmark {
+    @Param({"MyArrayList", "MyLinkedList", "MyUnrolledLinkedList"})
+    private String implementation;
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private Integer[] values;
+    private int[] indices;
+    private MyList<Integer> list;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        values = BenchmarkData.integers(size, BenchmarkData.Distribution.SORTED);
+        indices = BenchmarkData.indices(1024, size);
+        list = createList();
+        list.addAll(values);
+        cursor = 0;
+    }
+
+    private MyList<Integer> createList() {
+        return switch (implementation) {
+            case "MyArrayList" -> new MyArrayList<>(Integer.class);
+            case "MyLinkedList" -> new MyLinkedList<>();
+            case "MyUnrolledLinkedList" -> new MyUnrolledLinkedList<>();
+            default -> throw new IllegalArgumentException("Unknown list implementation: " + implementation);
+        };
+    }
+
+    private int nextIndex() {
+        return indices[cursor++ & (indices.length - 1)];
+    }
+
+    /**
+     * Fill an empty list with all the values, one add at a time.
+     */
+    @Benchmark
+    public MyList<Integer> add() {
+        final MyList<Integer> list = createList();
+
+        for (final Integer value : values) {
+            list.add(value);
+        }
+
+        return list;
+    }
+
+    /**
+     * Fill an empty list with all the values at once.
+     */
+    @Benchmark
+    public MyList<Integer> addAll() {
+        final MyList<Integer> list = createList();
+        list.addAll(values);
+        return list;
+    }
+
+    /**
+     * Get the value at a random index.
+     */
+    @Benchmark
+    public Integer get() {
+        return list.get(nextIndex());
+    }
+
+    /**
+     * Walk over all the values with the iterator.
+     */
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (final Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Walk over all the values in parallel with a stream.
+     */
+    @Benchmark
+    public long parallelStream() {
+        return list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    /**
+     * Find the index of a random value present in the list.
+     */
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(values[nextIndex()]);
+    }
+
+    /**
+     * Remove a random value and add it back again so the size of the list stays the same.
+     */
+    @Benchmark
+    public void removeAndAdd(final Blackhole blackhole) {
+        final Integer value = values[nextIndex()];
+        blackhole.consume(list.remove(value));
+        list.add(value);
+    }
+}
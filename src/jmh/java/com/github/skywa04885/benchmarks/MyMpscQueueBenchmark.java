@@ -0,0 +1,152 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded benchmarks of handing values from three producer threads to one consumer thread, through the
+ *  lock-free queues that allow multiple producers and a synchronized MyLinkedList. Full offers and empty polls return
+ *  right away and are counted apart, so compare the offered and polled counters instead of the plain score, which
+ *  includes the failed attempts.
+ * <p>
+ * The unbounded queues are kept to roughly the same capacity as the bounded ones, so producers that are faster than
+ *  the consumer can't fill the heap. Each producer stops when its own count times the number of producers is a full
+ *  queue ahead of the consumer, which avoids a shared counter the producers would contend on.
+ */
+@State(Scope.Group)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyMpscQueueBenchmark {
+    /**
+     * The value handed over, allocated up front so the benchmarks measure the queues and not the allocation.
+     */
+    private static final Integer VALUE = 42;
+
+    /**
+     * The number of producer threads in each group.
+     */
+    private static final int PRODUCERS = 3;
+
+    @Param({"MyMpscArrayQueue", "MyMpscLinkedQueue", "SynchronizedLinkedListQueue"})
+    private String implementation;
+
+    @Param({"1024"})
+    private int capacity;
+
+    private MyConcurrentQueue<Integer> queue;
+    private boolean bounded;
+
+    /**
+     * The number of values taken by the consumer, which limits the producer of an unbounded queue.
+     */
+    private volatile long consumed;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ProducerCounters {
+        public long offered;
+        public long full;
+
+        /**
+         * The total number of values offered by the thread, unlike the counters it's not reset between iterations.
+         */
+        private long produced;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = 0;
+            full = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ConsumerCounters {
+        public long polled;
+        public long empty;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            polled = 0;
+            empty = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        queue = switch (implementation) {
+            case "MyMpscArrayQueue" -> new MyMpscArrayQueue<>(capacity);
+            case "MyMpscLinkedQueue" -> new MyMpscLinkedQueue<>();
+            case "SynchronizedLinkedListQueue" -> new SynchronizedLinkedListQueue<>();
+            default -> throw new IllegalArgumentException("Unknown queue implementation: " + implementation);
+        };
+        bounded = queue instanceof MyMpscArrayQueue;
+        consumed = 0;
+    }
+
+    /**
+     * Offer a value to the queue, from one of the producer threads.
+     */
+    @Benchmark
+    @Group("offerAndPoll")
+    @GroupThreads(PRODUCERS)
+    public void offer(final ProducerCounters counters) {
+        if ((bounded || counters.produced * PRODUCERS - consumed < capacity) && queue.offer(VALUE)) {
+            ++counters.produced;
+            ++counters.offered;
+        } else {
+            ++counters.full;
+        }
+    }
+
+    /**
+     * Poll a value from the queue, from the consumer thread.
+     */
+    @Benchmark
+    @Group("offerAndPoll")
+    @GroupThreads(1)
+    public void poll(final ConsumerCounters counters) {
+        if (queue.poll().isPresent()) {
+            if (!bounded) {
+                ++consumed;
+            }
+            ++counters.polled;
+        } else {
+            ++counters.empty;
+        }
+    }
+
+    /**
+     * Offer a value to the queue, from one of the producer threads, with the consumer draining it in batches.
+     */
+    @Benchmark
+    @Group("offerAndDrain")
+    @GroupThreads(PRODUCERS)
+    public void offerToDrain(final ProducerCounters counters) {
+        offer(counters);
+    }
+
+    /**
+     * Drain up to 64 values from the queue at once, from the consumer thread.
+     */
+    @Benchmark
+    @Group("offerAndDrain")
+    @GroupThreads(1)
+    public void drain(final ConsumerCounters counters) {
+        final int count = queue.drain(value -> {}, 64);
+        if (count == 0) {
+            ++counters.empty;
+            return;
+        }
+
+        if (!bounded) {
+            consumed += count;
+        }
+        counters.polled += count;
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyHashTable;
+import com.github.skywa04885.MyIntObjHashTable;
+import com.github.skywa04885.MyLongLongHashTable;
+import com.github.skywa04885.MyOpenHashTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the open addressing hash tables against the chaining MyHashTable, all keyed by int IDs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyOpenHashTableBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    private int[] keys;
+    private Integer[] boxedKeys;
+    private int[] lookups;
+
+    private MyHashTable<Integer, Integer> chainingTable;
+    private MyOpenHashTable<Integer, Integer> openTable;
+    private MyIntObjHashTable<Integer> intObjTable;
+    private MyLongLongHashTable longLongTable;
+
+    @Setup
+    public void setup() {
+        keys = BenchmarkData.indices(size, Integer.MAX_VALUE);
+        boxedKeys = new Integer[size];
+        for (int i = 0; i < size; ++i) {
+            boxedKeys[i] = keys[i];
+        }
+        lookups = BenchmarkData.indices(size, size);
+
+        chainingTable = new MyHashTable<>();
+        openTable = new MyOpenHashTable<>();
+        intObjTable = new MyIntObjHashTable<>();
+        longLongTable = new MyLongLongHashTable();
+
+        for (int i = 0; i < size; ++i) {
+            chainingTable.insert(boxedKeys[i], boxedKeys[i]);
+            openTable.insert(boxedKeys[i], boxedKeys[i]);
+            intObjTable.insert(keys[i], boxedKeys[i]);
+            longLongTable.insert(keys[i], keys[i]);
+        }
+    }
+
+    /**
+     * Fill an empty chaining hash table with all the keys.
+     */
+    @Benchmark
+    public MyHashTable<Integer, Integer> insertChaining() {
+        final MyHashTable<Integer, Integer> table = new MyHashTable<>();
+        for (final Integer key : boxedKeys) {
+            table.insert(key, key);
+        }
+        return table;
+    }
+
+    /**
+     * Fill an empty generic open addressing hash table with all the keys.
+     */
+    @Benchmark
+    public MyOpenHashTable<Integer, Integer> insertOpen() {
+        final MyOpenHashTable<Integer, Integer> table = new MyOpenHashTable<>();
+        for (final Integer key : boxedKeys) {
+            table.insert(key, key);
+        }
+        return table;
+    }
+
+    /**
+     * Fill an empty int keyed hash table with all the keys.
+     */
+    @Benchmark
+    public MyIntObjHashTable<Integer> insertIntObj() {
+        final MyIntObjHashTable<Integer> table = new MyIntObjHashTable<>();
+        for (int i = 0; i < size; ++i) {
+            table.insert(keys[i], boxedKeys[i]);
+        }
+        return table;
+    }
+
+    /**
+     * Fill an empty long keyed hash table with all the keys.
+     */
+    @Benchmark
+    public MyLongLongHashTable insertLongLong() {
+        final MyLongLongHashTable table = new MyLongLongHashTable();
+        for (final int key : keys) {
+            table.insert(key, key);
+        }
+        return table;
+    }
+
+    /**
+     * Look up all the keys in random order in the chaining hash table.
+     */
+    @Benchmark
+    public void getChaining(final Blackhole blackhole) {
+        for (final int lookup : lookups) {
+            blackhole.consume(chainingTable.get(boxedKeys[lookup]));
+        }
+    }
+
+    /**
+     * Look up all the keys in random order in the generic open addressing hash table.
+     */
+    @Benchmark
+    public void getOpen(final Blackhole blackhole) {
+        for (final int lookup : lookups) {
+            blackhole.consume(openTable.getOrDefault(boxedKeys[lookup], null));
+        }
+    }
+
+    /**
+     * Look up all the keys in random order in the int keyed hash table.
+     */
+    @Benchmark
+    public void getIntObj(final Blackhole blackhole) {
+        for (final int lookup : lookups) {
+            blackhole.consume(intObjTable.getOrDefault(keys[lookup], null));
+        }
+    }
+
+    /**
+     * Look up all the keys in random order in the long keyed hash table.
+     */
+    @Benchmark
+    public void getLongLong(final Blackhole blackhole) {
+        for (final int lookup : lookups) {
+            blackhole.consume(longLongTable.getOrDefault(keys[lookup], -1L));
+        }
+    }
+}
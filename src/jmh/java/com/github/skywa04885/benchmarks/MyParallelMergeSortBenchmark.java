@@ -0,0 +1,61 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyMergeSort;
+import com.github.skywa04885.MyParallelMergeSort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the scaling of the parallel merge sort with the number of worker threads, against the sequential
+ *  MyMergeSort.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyParallelMergeSortBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    /**
+     * The number of worker threads in the pool, the results only mean something up to the number of cores.
+     */
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int parallelism;
+
+    private Integer[] unsorted;
+    private ForkJoinPool pool;
+    private MyParallelMergeSort parallelMergeSort;
+
+    @Setup
+    public void setup() {
+        unsorted = BenchmarkData.integers(size, BenchmarkData.Distribution.RANDOM);
+        pool = new ForkJoinPool(parallelism);
+        parallelMergeSort = new MyParallelMergeSort(pool, MyParallelMergeSort.DEFAULT_THRESHOLD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Sort the input using the parallel merge sort.
+     */
+    @Benchmark
+    public Integer[] parallel() {
+        return parallelMergeSort.sort(unsorted);
+    }
+
+    /**
+     * Sort the input using the sequential merge sort, as the baseline.
+     */
+    @Benchmark
+    public Integer[] sequential() {
+        return MyMergeSort.getInstance().sort(unsorted);
+    }
+}
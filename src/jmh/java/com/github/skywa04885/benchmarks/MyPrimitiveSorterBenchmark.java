@@ -0,0 +1,77 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyDualPivotQuickSort;
+import com.github.skywa04885.MyPrimitiveSorter;
+import com.github.skywa04885.MyRadixSort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the primitive sorting algorithms across input sizes and distributions, to compare with the boxed
+ *  sorts in MySorterBenchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyPrimitiveSorterBenchmark {
+    @Param({"MyDualPivotQuickSort", "MyRadixSort"})
+    private String sorter;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "NEARLY_SORTED", "FEW_UNIQUE"})
+    private BenchmarkData.Distribution distribution;
+
+    private MyPrimitiveSorter sortAlgorithm;
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+
+    @Setup
+    public void setup() {
+        sortAlgorithm = switch (sorter) {
+            case "MyDualPivotQuickSort" -> MyDualPivotQuickSort.getInstance();
+            case "MyRadixSort" -> MyRadixSort.getInstance();
+            default -> throw new IllegalArgumentException("Unknown sorter: " + sorter);
+        };
+
+        final Integer[] integers = BenchmarkData.integers(size, distribution);
+        ints = new int[size];
+        longs = new long[size];
+        doubles = new double[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = integers[i];
+            longs[i] = (long) integers[i] << 16;
+            doubles[i] = integers[i] / 3.0;
+        }
+    }
+
+    /**
+     * Sort the generated ints.
+     */
+    @Benchmark
+    public int[] sortInts() {
+        return sortAlgorithm.sort(ints);
+    }
+
+    /**
+     * Sort the generated ints widened to longs.
+     */
+    @Benchmark
+    public long[] sortLongs() {
+        return sortAlgorithm.sort(longs);
+    }
+
+    /**
+     * Sort the generated ints converted to doubles.
+     */
+    @Benchmark
+    public double[] sortDoubles() {
+        return sortAlgorithm.sort(doubles);
+    }
+}
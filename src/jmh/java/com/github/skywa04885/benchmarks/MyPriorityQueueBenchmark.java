@@ -0,0 +1,62 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyPriorityQueue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the priority queue, for every arity of its heap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyPriorityQueueBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"2", "4", "8"})
+    private int arity;
+
+    private Integer[] priorities;
+    private MyPriorityQueue<Integer> queue;
+
+    @Setup
+    public void setup() {
+        priorities = BenchmarkData.integers(size, BenchmarkData.Distribution.RANDOM);
+        queue = new MyPriorityQueue<>(arity);
+
+        for (final Integer priority : priorities) {
+            queue.enqueue(priority, priority);
+        }
+    }
+
+    /**
+     * Enqueue all the values into an empty queue and dequeue all of them again.
+     */
+    @Benchmark
+    public void enqueueAndDequeueAll(final Blackhole blackhole) {
+        final MyPriorityQueue<Integer> queue = new MyPriorityQueue<>(arity);
+
+        for (final Integer priority : priorities) {
+            queue.enqueue(priority, priority);
+        }
+
+        for (int i = 0; i < size; ++i) {
+            blackhole.consume(queue.dequeue());
+        }
+    }
+
+    /**
+     * Dequeue the minimum from a full queue and enqueue it back again, the typical steady state of a scheduler.
+     */
+    @Benchmark
+    public void dequeueAndEnqueue() {
+        final Integer value = queue.dequeue().orElseThrow();
+        queue.enqueue(value, value);
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyArrayDeque;
+import com.github.skywa04885.MyLinkedList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of using the deques as a FIFO work queue in a single thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyQueueBenchmark {
+    @Param({"MyArrayDeque", "MyLinkedList"})
+    private String implementation;
+
+    @Param({"16", "1024"})
+    private int size;
+
+    private Integer[] values;
+    private MyArrayDeque<Integer> arrayDeque;
+    private MyLinkedList<Integer> linkedList;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        values = BenchmarkData.integers(1024, BenchmarkData.Distribution.RANDOM);
+        arrayDeque = new MyArrayDeque<>();
+        linkedList = new MyLinkedList<>();
+
+        // Start with a queue of the given size, which the benchmarks keep constant.
+        for (int i = 0; i < size; ++i) {
+            arrayDeque.offer(values[i & (values.length - 1)]);
+            linkedList.addLast(values[i & (values.length - 1)]);
+        }
+
+        cursor = 0;
+    }
+
+    /**
+     * Enqueue a value at the back and dequeue one from the front, like a work queue in steady state.
+     */
+    @Benchmark
+    public Integer offerAndPoll() {
+        final Integer value = values[cursor++ & (values.length - 1)];
+
+        return switch (implementation) {
+            case "MyArrayDeque" -> {
+                arrayDeque.offer(value);
+                yield arrayDeque.poll().orElseThrow();
+            }
+            case "MyLinkedList" -> {
+                linkedList.addLast(value);
+                yield linkedList.pollFirst().orElseThrow();
+            }
+            default -> throw new IllegalArgumentException("Unknown queue implementation: " + implementation);
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyMergeSort;
+import com.github.skywa04885.MySelection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of finding the median and the k smallest values by selection, compared to a full sort.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MySelectionBenchmark {
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"10", "1000"})
+    private int k;
+
+    @Param({"RANDOM", "SORTED", "FEW_UNIQUE"})
+    private BenchmarkData.Distribution distribution;
+
+    private Integer[] unsorted;
+    private List<Integer> values;
+    private Integer[] work;
+
+    @Setup
+    public void setup() {
+        unsorted = BenchmarkData.integers(size, distribution);
+        values = Arrays.asList(unsorted);
+        work = new Integer[size];
+    }
+
+    /**
+     * Find the median by introselect, on a copy of the input.
+     */
+    @Benchmark
+    public Integer selectMedian() {
+        System.arraycopy(unsorted, 0, work, 0, size);
+        return MySelection.median(work);
+    }
+
+    /**
+     * Find the median by merge sorting a copy of the input.
+     */
+    @Benchmark
+    public Integer sortMedian() {
+        System.arraycopy(unsorted, 0, work, 0, size);
+        MyMergeSort.getInstance().sortInPlace(work, 0, size);
+        return work[(size - 1) / 2];
+    }
+
+    /**
+     * Find the k smallest values using the bounded heap.
+     */
+    @Benchmark
+    public List<Integer> topK() {
+        return MySelection.topK(values, k);
+    }
+
+    /**
+     * Find the k smallest values by merge sorting a copy of the input.
+     */
+    @Benchmark
+    public Integer[] sortTopK() {
+        System.arraycopy(unsorted, 0, work, 0, size);
+        MyMergeSort.getInstance().sortInPlace(work, 0, size);
+        return Arrays.copyOf(work, k);
+    }
+}
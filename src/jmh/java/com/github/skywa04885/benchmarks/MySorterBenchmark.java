@@ -0,0 +1,65 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyBubbleSort;
+import com.github.skywa04885.MyDualPivotQuickSort;
+import com.github.skywa04885.MyMergeSort;
+import com.github.skywa04885.MySorter;
+import com.github.skywa04885.MyTimSort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the sorting algorithms across input sizes and distributions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MySorterBenchmark {
+    @Param({"MyBubbleSort", "MyMergeSort", "MyTimSort", "MyDualPivotQuickSort"})
+    private String sorter;
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "NEARLY_SORTED", "FEW_UNIQUE"})
+    private BenchmarkData.Distribution distribution;
+
+    private MySorter sortAlgorithm;
+    private Integer[] unsorted;
+    private Integer[] work;
+
+    @Setup
+    public void setup() {
+        sortAlgorithm = switch (sorter) {
+            case "MyBubbleSort" -> MyBubbleSort.getInstance();
+            case "MyMergeSort" -> MyMergeSort.getInstance();
+            case "MyTimSort" -> MyTimSort.getInstance();
+            case "MyDualPivotQuickSort" -> MyDualPivotQuickSort.getInstance();
+            default -> throw new IllegalArgumentException("Unknown sorter: " + sorter);
+        };
+        unsorted = BenchmarkData.integers(size, distribution);
+        work = new Integer[size];
+    }
+
+    /**
+     * Sort the generated input (the sorters return a sorted copy, so the input stays the same between calls).
+     */
+    @Benchmark
+    public Integer[] sort() {
+        return sortAlgorithm.sort(unsorted);
+    }
+
+    /**
+     * Copy the generated input into a preallocated array and sort it in place, so only the sorter allocates.
+     */
+    @Benchmark
+    public Integer[] sortInPlace() {
+        System.arraycopy(unsorted, 0, work, 0, size);
+        sortAlgorithm.sortInPlace(work, 0, size);
+        return work;
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.skywa04885.benchmarks;
+
+import com.github.skywa04885.MyConcurrentQueue;
+import com.github.skywa04885.MyLinkedList;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A MyLinkedList behind a lock, which is how work was handed between threads before the lock-free queues, kept as the
+ *  baseline for them. Draining holds the lock once for the whole batch.
+ * @param <T> The type of values in the queue.
+ */
+public class SynchronizedLinkedListQueue<T> implements MyConcurrentQueue<T> {
+    private final MyLinkedList<T> list = new MyLinkedList<>();
+
+    @Override
+    public boolean offer(final T value) {
+        Objects.requireNonNull(value);
+
+        synchronized (list) {
+            list.addLast(value);
+        }
+
+        return true;
+    }
+
+    @Override
+    public Optional<T> poll() {
+        synchronized (list) {
+            return list.pollFirst();
+        }
+    }
+
+    @Override
+    public int drain(final Consumer<? super T> consumer, final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+
+        int count = 0;
+
+        synchronized (list) {
+            while (count < limit && !list.isEmpty()) {
+                consumer.accept(list.pollFirst().orElseThrow());
+                ++count;
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public int size() {
+        synchronized (list) {
+            return list.size();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        synchronized (list) {
+            return list.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.github.skywa04885;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * My implementation of a deque backed by a circular array, which can also be used as a list or a FIFO queue.
+ * <p>
+ * The values are stored in a ring buffer starting at the head index, wrapping around at the end of the array. The
+ *  capacity is always a power of two, so wrapping an index is a single mask instead of a division. Values are added
+ *  and removed at both ends in constant time without allocating anything, only growing the array (by doubling) when
+ *  it's full, so a queue that stays within its capacity never allocates in steady state.
+ * @param <T> The type of value to be stored in the deque.
+ */
+public class MyArrayDeque<T> implements MyList<T> {
+    /**
+     * The default capacity of a new deque.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] values;
+    private int head = 0;
+    private int size = 0;
+
+    public MyArrayDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a deque that can hold the given number of values before it grows.
+     * @param initialCapacity The initial capacity, which is rounded up to a power of two.
+     */
+    public MyArrayDeque(final int initialCapacity) {
+        if (initialCapacity < 1 || initialCapacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between one and 2^30");
+        }
+
+        this.values = new Object[Math.max(1, Integer.highestOneBit(initialCapacity - 1) << 1)];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SafeVarargs
+    public final void addAll(final T... values) {
+        ensureCapacity(size + values.length);
+
+        for (final T value : values) {
+            addLast(value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        } else if (index >= size) {
+            throw new IndexOutOfBoundsException("Index is out of bounds");
+        }
+
+        return (T) values[(head + index) & (values.length - 1)];
+    }
+
+    @Override
+    public int indexOf(final T value) {
+        final int mask = values.length - 1;
+
+        for (int i = 0; i < size; ++i) {
+            if (Objects.equals(values[(head + i) & mask], value)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public void add(final T value) {
+        addLast(value);
+    }
+
+    /**
+     * Add the given value to the front of the deque.
+     * @param value The value to add.
+     */
+    public void addFirst(final T value) {
+        if (size == values.length) {
+            grow();
+        }
+
+        head = (head - 1) & (values.length - 1);
+        values[head] = value;
+        ++size;
+    }
+
+    /**
+     * Add the given value to the back of the deque.
+     * @param value The value to add.
+     */
+    public void addLast(final T value) {
+        if (size == values.length) {
+            grow();
+        }
+
+        values[(head + size) & (values.length - 1)] = value;
+        ++size;
+    }
+
+    /**
+     * Add the given value to the back of the queue.
+     * @param value The value to enqueue.
+     */
+    public void offer(final T value) {
+        addLast(value);
+    }
+
+    /**
+     * Remove the value at the front of the queue.
+     * @return The removed value, if there.
+     */
+    public Optional<T> poll() {
+        return pollFirst();
+    }
+
+    /**
+     * Get the value at the front of the queue, without removing it.
+     * @return The value at the front, if there.
+     */
+    public Optional<T> peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Remove the value at the front of the deque.
+     * @return The removed value, if there.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<T> pollFirst() {
+        if (size == 0) return Optional.empty();
+
+        final T value = (T) values[head];
+        values[head] = null;
+        head = (head + 1) & (values.length - 1);
+        --size;
+
+        return Optional.of(value);
+    }
+
+    /**
+     * Remove the value at the back of the deque.
+     * @return The removed value, if there.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<T> pollLast() {
+        if (size == 0) return Optional.empty();
+
+        final int tail = (head + size - 1) & (values.length - 1);
+        final T value = (T) values[tail];
+        values[tail] = null;
+        --size;
+
+        return Optional.of(value);
+    }
+
+    /**
+     * Get the value at the front of the deque, without removing it.
+     * @return The value at the front, if there.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<T> peekFirst() {
+        return size == 0 ? Optional.empty() : Optional.of((T) values[head]);
+    }
+
+    /**
+     * Get the value at the back of the deque, without removing it.
+     * @return The value at the back, if there.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<T> peekLast() {
+        return size == 0 ? Optional.empty() : Optional.of((T) values[(head + size - 1) & (values.length - 1)]);
+    }
+
+    @Override
+    public boolean remove(final T value) {
+        final int index = indexOf(value);
+        if (index == -1) {
+            return false;
+        }
+
+        final int mask = values.length - 1;
+
+        // Close the gap by shifting whichever side of it is shorter.
+        if (index < size / 2) {
+            for (int i = index; i > 0; --i) {
+                values[(head + i) & mask] = values[(head + i - 1) & mask];
+            }
+            values[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            for (int i = index; i < size - 1; ++i) {
+                values[(head + i) & mask] = values[(head + i + 1) & mask];
+            }
+            values[(head + size - 1) & mask] = null;
+        }
+
+        --size;
+
+        return true;
+    }
+
+    /**
+     * Make sure the deque can hold at least the given number of values without growing.
+     * @param capacity The number of values the deque should be able to hold.
+     */
+    public void ensureCapacity(final int capacity) {
+        while (values.length < capacity) {
+            grow();
+        }
+    }
+
+    /**
+     * Double the capacity, moving the values to the start of the new array in order.
+     */
+    private void grow() {
+        if (values.length == 1 << 30) {
+            throw new IllegalStateException("Deque cannot grow beyond 2^30 values");
+        }
+
+        final Object[] newValues = new Object[values.length << 1];
+        final int firstPart = Math.min(size, values.length - head);
+        System.arraycopy(values, head, newValues, 0, firstPart);
+        System.arraycopy(values, 0, newValues, firstPart, size - firstPart);
+
+        values = newValues;
+        head = 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return (T) values[(head + index++) & (values.length - 1)];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+
+        for (int i = 0; i < size; ++i) {
+            builder.append(values[(head + i) & (values.length - 1)]);
+            if (i < size - 1) {
+                builder.append(", ");
+            }
+        }
+
+        builder.append("}");
+        return builder.toString();
+    }
+
+    @Override
+    public T[] toArray(final T[] x) {
+        @SuppressWarnings("unchecked")
+        final T[] array = (T[]) java.lang.reflect.Array.newInstance(
+                x.getClass().getComponentType(), size
+        );
+
+        final int firstPart = Math.min(size, values.length - head);
+        System.arraycopy(values, head, array, 0, firstPart);
+        System.arraycopy(values, 0, array, firstPart, size - firstPart);
+
+        return array;
+    }
+}
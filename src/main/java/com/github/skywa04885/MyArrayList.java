@@ -2,7 +2,13 @@ package com.github.skywa04885;
 
 import java.lang.reflect.Array;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
 
 public class MyArrayList<T> implements MyList<T> {
     private final Class<T> valueClass;
@@ -29,11 +35,38 @@ public class MyArrayList<T> implements MyList<T> {
         return size == 0;
     }
 
+    /**
+     * Add all the given values to the list, growing the backing array at most once.
+     * @param values The values to add to the list.
+     */
     @Override
     @SafeVarargs
+    @SuppressWarnings("varargs") // The values are only read, copying them out doesn't expose the varargs array.
     public final void addAll(final T... values) {
-        for (final T value : values) {
-            add(value);
+        ensureCapacity(size + values.length);
+
+        System.arraycopy(values, 0, array, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Make sure the backing array can hold at least the given number of values without growing.
+     * @param capacity The number of values the list should be able to hold.
+     */
+    public void ensureCapacity(final int capacity) {
+        if (capacity > array.length) {
+            grow(capacity);
+        }
+    }
+
+    /**
+     * Shrink the backing array to the size of the list, to release the unused capacity.
+     */
+    public void trimToSize() {
+        if (size < array.length) {
+            final T[] newArray = allocate(valueClass, size);
+            System.arraycopy(array, 0, newArray, 0, size);
+            array = newArray;
         }
     }
 
@@ -67,7 +100,7 @@ public class MyArrayList<T> implements MyList<T> {
     @Override
     public void add(final T value) {
         if (array.length == size) {
-            grow();
+            grow(size + 1);
         }
 
         assert array.length > size;
@@ -75,6 +108,27 @@ public class MyArrayList<T> implements MyList<T> {
         array[size++] = value;
     }
 
+    /**
+     * Insert the given value at the given index, shifting the value at that index and all after it one to the back.
+     * @param index The index to insert the value at, which may be the size to append it.
+     * @param value The value to insert.
+     */
+    public void add(final int index, final T value) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        } else if (index > size) {
+            throw new IndexOutOfBoundsException("Index is out of bounds");
+        }
+
+        if (array.length == size) {
+            grow(size + 1);
+        }
+
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        ++size;
+    }
+
     @Override
     public boolean remove(final T value) {
         int index = indexOf(value);
@@ -82,18 +136,147 @@ public class MyArrayList<T> implements MyList<T> {
             return false;
         }
 
-        if(index < size - 1) {
+        removeAt(index);
+
+        return true;
+    }
+
+    /**
+     * Remove the value at the given index, shifting all values after it one to the front.
+     * @param index The index of the value to remove.
+     * @return The removed value.
+     */
+    public T removeAt(final int index) {
+        final T value = get(index);
+
+        if (index < size - 1) {
             System.arraycopy(array, index + 1, array, index, size - index - 1);
         }
 
-        --size;
+        array[--size] = null;
+
+        return value;
+    }
+
+    /**
+     * Remove the values in the given range of indices, shifting the values after it to the front at once.
+     * @param from The start of the range (inclusive).
+     * @param to The end of the range (exclusive).
+     */
+    public void removeRange(final int from, final int to) {
+        Objects.checkFromToIndex(from, to, size);
+
+        System.arraycopy(array, to, array, from, size - to);
+
+        final int newSize = size - (to - from);
+        Arrays.fill(array, newSize, size, null);
+        size = newSize;
+    }
+
+    /**
+     * Remove all the values matching the given predicate, in a single pass that moves every kept value at most once.
+     * @param predicate The predicate that tells which values to remove.
+     * @return Whether any value was removed or not.
+     */
+    public boolean removeIf(final Predicate<? super T> predicate) {
+        int kept = 0;
+        for (int i = 0; i < size; ++i) {
+            final T value = array[i];
+            if (!predicate.test(value)) {
+                array[kept++] = value;
+            }
+        }
+
+        if (kept == size) {
+            return false;
+        }
+
+        Arrays.fill(array, kept, size, null);
+        size = kept;
 
         return true;
     }
 
-    private void grow() {
-        // The new capacity of the array list should at least be ten, or twice the old capacity if it's not too small'
-        final int newCapacity = array.length < 10 ? 10 : array.length + (array.length >> 1);
+    /**
+     * Find the first index whose value is not less than the given value, in a list sorted by the given comparator.
+     * @param value The value to find the lower bound of.
+     * @param comparator The comparator by which the list is sorted.
+     * @return The index of the first value not less than the given value, or the size if there is none.
+     */
+    public int lowerBound(final T value, final Comparator<? super T> comparator) {
+        return MyBinarySearch.lowerBound(array, 0, size, value, comparator);
+    }
+
+    /**
+     * Find the first index whose value is greater than the given value, in a list sorted by the given comparator.
+     * @param value The value to find the upper bound of.
+     * @param comparator The comparator by which the list is sorted.
+     * @return The index of the first value greater than the given value, or the size if there is none.
+     */
+    public int upperBound(final T value, final Comparator<? super T> comparator) {
+        return MyBinarySearch.upperBound(array, 0, size, value, comparator);
+    }
+
+    /**
+     * Find the range of indices at which the values equal the given value, in a list sorted by the given comparator.
+     * @param value The value to find the range of.
+     * @param comparator The comparator by which the list is sorted.
+     * @return The range of indices, which is empty if there are none.
+     */
+    public MyBinarySearch.Range equalRange(final T value, final Comparator<? super T> comparator) {
+        final int lower = MyBinarySearch.lowerBound(array, 0, size, value, comparator);
+        return new MyBinarySearch.Range(lower, MyBinarySearch.upperBound(array, lower, size, value, comparator));
+    }
+
+    /**
+     * Find the range of indices at which the values lie between the given values (both inclusive), in a list sorted
+     *  by the given comparator.
+     * @param from The smallest value in the range.
+     * @param to The greatest value in the range.
+     * @param comparator The comparator by which the list is sorted.
+     * @return The range of indices, which is empty if there are no values between the given ones.
+     */
+    public MyBinarySearch.Range searchRange(final T from, final T to, final Comparator<? super T> comparator) {
+        final int lower = MyBinarySearch.lowerBound(array, 0, size, from, comparator);
+        final int upper = MyBinarySearch.upperBound(array, lower, size, to, comparator);
+        return new MyBinarySearch.Range(lower, Math.max(lower, upper));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return array[index++];
+            }
+        };
+    }
+
+    /**
+     * Get a spliterator over the values of the list, which splits the backing array in halves, so parallel streams
+     *  divide the list evenly over their threads.
+     * @return The spliterator.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(array, 0, size, Spliterator.ORDERED);
+    }
+
+    private void grow(final int minCapacity) {
+        // The new capacity of the array list should at least be ten, or one and a half times the old capacity if it's
+        //  not too small, unless more is needed at once.
+        final int newCapacity = Math.max(minCapacity, array.length < 10 ? 10 : array.length + (array.length >> 1));
         final T[] newArray = allocate(valueClass, newCapacity);
         System.arraycopy(array, 0, newArray, 0, size);
         array = newArray;
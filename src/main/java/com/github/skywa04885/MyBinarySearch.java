@@ -1,15 +1,38 @@
 package com.github.skywa04885;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
 /**
  * My implementation of the binary search algorithm.
+ * <p>
+ * Besides the classic search on arrays of comparable values, there are branchless searches on arrays of primitives,
+ *  whose loops contain no unpredictable branches (the comparison only selects the next position, which compiles into
+ *  a conditional move), and a search index that lays the values out such that the probes are cache friendly.
+ * <p>
+ * Range queries are answered by the bounds of a value: the lower bound is the first index whose value is not less
+ *  than it, and the upper bound the first index whose value is greater than it. All values equal to it lie between
+ *  the two, so every value in a range of values is found with two searches instead of a scan.
+ * <p>
+ * Many sorted queries are searched for at once by the batch searches, which use the order of the queries: every
+ *  query only needs to be searched for after the result of the previous one. If there are about as many queries as
+ *  values, the queries are merged with the array in one linear pass. Otherwise the primitive searches descend for
+ *  several queries in lockstep, so the memory accesses of the different queries overlap instead of waiting on each
+ *  other, and the generic search gallops from the previous result.
  */
 public final class MyBinarySearch {
+    /**
+     * The number of queries of a batch that are searched for in lockstep.
+     */
+    private static final int BATCH_SIZE = 8;
+
     private MyBinarySearch() {
     }
 
     /**
      * Perform a binary search on the given array, looking for the specified value, returning it's index if found.
-     * @param array The array in which the value should be searched for (must be sorted).
+     * @param array The array in which the value should be searched for (must be sorted in ascending order).
      * @param value The value of which the index should be found.
      * @return The index of the value if found, otherwise -1;
      * @param <T> The type of values in the array.
@@ -22,8 +45,8 @@ public final class MyBinarySearch {
         int low = 0;
         int high = array.length - 1;
 
-        // Stay in the loop as long as there's still a search space.
-        while (low < high) {
+        // Stay in the loop as long as there's still a search space (a single value is a search space too).
+        while (low <= high) {
             // Calculate the middle of the current range (the value we'll check).
             final int mid = low + (high - low) / 2;
 
@@ -34,7 +57,7 @@ public final class MyBinarySearch {
             //  range depending on whether or not the value we're looking or is before or after the current middle.
             if (comparison == 0) {
                 return mid;
-            } else if (comparison > 0) {
+            } else if (comparison < 0) {
                 low = mid + 1;
             } else {
                 high = mid - 1;
@@ -44,4 +67,711 @@ public final class MyBinarySearch {
         // Return -1 because nothing was found.
         return -1;
     }
+
+    /**
+     * Find the lower bound of the given value in the given array in its natural order.
+     * @see #lowerBound(Object[], int, int, Object, Comparator)
+     */
+    public static <T extends Comparable<T>> int lowerBound(final T[] array, final T value) {
+        return lowerBound(array, 0, array.length, value, Comparator.naturalOrder());
+    }
+
+    /**
+     * Find the lower bound of the given value in the given array.
+     * @see #lowerBound(Object[], int, int, Object, Comparator)
+     */
+    public static <T> int lowerBound(final T[] array, final T value, final Comparator<? super T> comparator) {
+        return lowerBound(array, 0, array.length, value, comparator);
+    }
+
+    /**
+     * Find the first index in the given range of the array whose value is not less than the given value.
+     * @param array The array to search.
+     * @param from The start of the range (inclusive), which must be sorted in ascending order.
+     * @param to The end of the range (exclusive).
+     * @param value The value to find the lower bound of.
+     * @param comparator The comparator that determines the order of the values.
+     * @return The index of the first value not less than the given value, or the end of the range if there is none.
+     * @param <T> The type of values in the array.
+     */
+    public static <T> int lowerBound(
+            final T[] array,
+            final int from,
+            final int to,
+            final T value,
+            final Comparator<? super T> comparator
+    ) {
+        Objects.checkFromToIndex(from, to, array.length);
+
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (comparator.compare(array[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Find the upper bound of the given value in the given array in its natural order.
+     * @see #upperBound(Object[], int, int, Object, Comparator)
+     */
+    public static <T extends Comparable<T>> int upperBound(final T[] array, final T value) {
+        return upperBound(array, 0, array.length, value, Comparator.naturalOrder());
+    }
+
+    /**
+     * Find the upper bound of the given value in the given array.
+     * @see #upperBound(Object[], int, int, Object, Comparator)
+     */
+    public static <T> int upperBound(final T[] array, final T value, final Comparator<? super T> comparator) {
+        return upperBound(array, 0, array.length, value, comparator);
+    }
+
+    /**
+     * Find the first index in the given range of the array whose value is greater than the given value.
+     * @param array The array to search.
+     * @param from The start of the range (inclusive), which must be sorted in ascending order.
+     * @param to The end of the range (exclusive).
+     * @param value The value to find the upper bound of.
+     * @param comparator The comparator that determines the order of the values.
+     * @return The index of the first value greater than the given value, or the end of the range if there is none.
+     * @param <T> The type of values in the array.
+     */
+    public static <T> int upperBound(
+            final T[] array,
+            final int from,
+            final int to,
+            final T value,
+            final Comparator<? super T> comparator
+    ) {
+        Objects.checkFromToIndex(from, to, array.length);
+
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (comparator.compare(array[mid], value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Find the range of indices of the given value in the given array in its natural order.
+     * @see #equalRange(Object[], Object, Comparator)
+     */
+    public static <T extends Comparable<T>> Range equalRange(final T[] array, final T value) {
+        return equalRange(array, value, Comparator.naturalOrder());
+    }
+
+    /**
+     * Find the range of indices at which the values equal the given value.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param value The value to find the range of.
+     * @param comparator The comparator that determines the order of the values.
+     * @return The range of indices, which is empty (and positioned where the value would be) if there are none.
+     * @param <T> The type of values in the array.
+     */
+    public static <T> Range equalRange(final T[] array, final T value, final Comparator<? super T> comparator) {
+        final int lower = lowerBound(array, 0, array.length, value, comparator);
+
+        // Every value before the lower bound is less than the value, so the upper bound lies after it.
+        return new Range(lower, upperBound(array, lower, array.length, value, comparator));
+    }
+
+    /**
+     * Find the range of indices of the values between the given values in the given array in its natural order.
+     * @see #searchRange(Object[], Object, Object, Comparator)
+     */
+    public static <T extends Comparable<T>> Range searchRange(final T[] array, final T from, final T to) {
+        return searchRange(array, from, to, Comparator.naturalOrder());
+    }
+
+    /**
+     * Find the range of indices at which the values lie between the given values (both inclusive).
+     * @param array The array to search (must be sorted in ascending order).
+     * @param from The smallest value in the range.
+     * @param to The greatest value in the range.
+     * @param comparator The comparator that determines the order of the values.
+     * @return The range of indices, which is empty if there are no values between the given ones.
+     * @param <T> The type of values in the array.
+     */
+    public static <T> Range searchRange(
+            final T[] array,
+            final T from,
+            final T to,
+            final Comparator<? super T> comparator
+    ) {
+        final int lower = lowerBound(array, 0, array.length, from, comparator);
+        final int upper = upperBound(array, lower, array.length, to, comparator);
+
+        // If the range of values is reversed, the upper bound can only be the lower bound (or before it).
+        return new Range(lower, Math.max(lower, upper));
+    }
+
+    /**
+     * Find the lower bound of the given value in the given array in its natural order, by exponential search.
+     * @see #exponentialSearch(Object[], int, int, Object, Comparator)
+     */
+    public static <T extends Comparable<T>> int exponentialSearch(final T[] array, final T value) {
+        return exponentialSearch(array, 0, array.length, value, Comparator.naturalOrder());
+    }
+
+    /**
+     * Find the first index in the given range of the array whose value is not less than the given value, by
+     *  galloping from the start of the range: the indices at distance 1, 3, 7, 15 and so on are probed until a value
+     *  not less than the given value is found, after which only the last gap is binary searched. This takes
+     *  O(log d) comparisons, with d the distance from the start to the result, so it's faster than a binary search
+     *  when the result is expected near the start, and it works without knowing where the sorted data ends (the end
+     *  may be an overestimate, as long as the range is in the array).
+     * @param array The array to search.
+     * @param from The start of the range (inclusive), which must be sorted in ascending order.
+     * @param to The end of the range (exclusive).
+     * @param value The value to find the lower bound of.
+     * @param comparator The comparator that determines the order of the values.
+     * @return The index of the first value not less than the given value, or the end of the range if there is none.
+     * @param <T> The type of values in the array.
+     */
+    public static <T> int exponentialSearch(
+            final T[] array,
+            final int from,
+            final int to,
+            final T value,
+            final Comparator<? super T> comparator
+    ) {
+        Objects.checkFromToIndex(from, to, array.length);
+
+        // The lower bound always lies in [low, high], with the value at high (if any) not less than the value.
+        int low = from;
+        int high = from;
+        int step = 1;
+        while (high < to && comparator.compare(array[high], value) < 0) {
+            low = high + 1;
+            high = to - high > step ? high + step : to;
+            step <<= 1;
+        }
+
+        return lowerBound(array, low, high, value, comparator);
+    }
+
+    /**
+     * Perform a branchless binary search on the given array, looking for the specified value.
+     * @param array The array in which the value should be searched for (must be sorted in ascending order).
+     * @param value The value of which the index should be found.
+     * @return The index of the first occurrence of the value if found, otherwise -1.
+     */
+    public static int binarySearch(final int[] array, final int value) {
+        final int index = lowerBound(array, value);
+        return index < array.length && array[index] == value ? index : -1;
+    }
+
+    /**
+     * Perform a branchless binary search on the given array, looking for the specified value.
+     * @param array The array in which the value should be searched for (must be sorted in ascending order).
+     * @param value The value of which the index should be found.
+     * @return The index of the first occurrence of the value if found, otherwise -1.
+     */
+    public static int binarySearch(final long[] array, final long value) {
+        final int index = lowerBound(array, value);
+        return index < array.length && array[index] == value ? index : -1;
+    }
+
+    /**
+     * Find the first index in the given array whose value is not less than the given value, without branching on
+     *  the comparisons. The search range is halved every step by only moving its base, so the number of steps only
+     *  depends on the length of the array.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param value The value to find the lower bound of.
+     * @return The index of the first value not less than the given value, or the length of the array if there is none.
+     */
+    public static int lowerBound(final int[] array, final int value) {
+        int length = array.length;
+        if (length == 0) {
+            return 0;
+        }
+
+        // The lower bound always lies in [base, base + length].
+        int base = 0;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = array[base + half] < value ? base + half : base;
+            length -= half;
+        }
+
+        return array[base] < value ? base + 1 : base;
+    }
+
+    /**
+     * Find the first index in the given array whose value is not less than the given value, without branching on
+     *  the comparisons.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param value The value to find the lower bound of.
+     * @return The index of the first value not less than the given value, or the length of the array if there is none.
+     */
+    public static int lowerBound(final long[] array, final long value) {
+        int length = array.length;
+        if (length == 0) {
+            return 0;
+        }
+
+        int base = 0;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = array[base + half] < value ? base + half : base;
+            length -= half;
+        }
+
+        return array[base] < value ? base + 1 : base;
+    }
+
+    /**
+     * Find the first index in the given array whose value is greater than the given value, without branching on
+     *  the comparisons.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param value The value to find the upper bound of.
+     * @return The index of the first value greater than the given value, or the length of the array if there is none.
+     */
+    public static int upperBound(final int[] array, final int value) {
+        int length = array.length;
+        if (length == 0) {
+            return 0;
+        }
+
+        int base = 0;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = array[base + half] <= value ? base + half : base;
+            length -= half;
+        }
+
+        return array[base] <= value ? base + 1 : base;
+    }
+
+    /**
+     * Find the first index in the given array whose value is greater than the given value, without branching on
+     *  the comparisons.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param value The value to find the upper bound of.
+     * @return The index of the first value greater than the given value, or the length of the array if there is none.
+     */
+    public static int upperBound(final long[] array, final long value) {
+        int length = array.length;
+        if (length == 0) {
+            return 0;
+        }
+
+        int base = 0;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = array[base + half] <= value ? base + half : base;
+            length -= half;
+        }
+
+        return array[base] <= value ? base + 1 : base;
+    }
+
+    /**
+     * Find the range of indices at which the values equal the given value.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param value The value to find the range of.
+     * @return The range of indices, which is empty if there are none.
+     */
+    public static Range equalRange(final int[] array, final int value) {
+        return new Range(lowerBound(array, value), upperBound(array, value));
+    }
+
+    /**
+     * Find the range of indices at which the values equal the given value.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param value The value to find the range of.
+     * @return The range of indices, which is empty if there are none.
+     */
+    public static Range equalRange(final long[] array, final long value) {
+        return new Range(lowerBound(array, value), upperBound(array, value));
+    }
+
+    /**
+     * Find the range of indices at which the values lie between the given values (both inclusive).
+     * @param array The array to search (must be sorted in ascending order).
+     * @param from The smallest value in the range.
+     * @param to The greatest value in the range.
+     * @return The range of indices, which is empty if there are no values between the given ones.
+     */
+    public static Range searchRange(final int[] array, final int from, final int to) {
+        final int lower = lowerBound(array, from);
+        return new Range(lower, Math.max(lower, upperBound(array, to)));
+    }
+
+    /**
+     * Find the range of indices at which the values lie between the given values (both inclusive).
+     * @param array The array to search (must be sorted in ascending order).
+     * @param from The smallest value in the range.
+     * @param to The greatest value in the range.
+     * @return The range of indices, which is empty if there are no values between the given ones.
+     */
+    public static Range searchRange(final long[] array, final long from, final long to) {
+        final int lower = lowerBound(array, from);
+        return new Range(lower, Math.max(lower, upperBound(array, to)));
+    }
+
+    /**
+     * Find the lower bounds of the given queries in the given array in its natural order.
+     * @see #lowerBounds(Object[], Object[], Comparator)
+     */
+    public static <T extends Comparable<T>> int[] lowerBounds(final T[] array, final T[] queries) {
+        return lowerBounds(array, queries, Comparator.naturalOrder());
+    }
+
+    /**
+     * Find the lower bound of every one of the given sorted queries, by galloping from the lower bound of the
+     *  previous query. This takes O(m log(n / m)) comparisons for m queries in an array of n values.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param queries The values to find the lower bounds of (must be sorted in ascending order).
+     * @param comparator The comparator that determines the order of the values.
+     * @return The lower bound of every query, at the index of the query.
+     * @param <T> The type of values in the array.
+     */
+    public static <T> int[] lowerBounds(final T[] array, final T[] queries, final Comparator<? super T> comparator) {
+        final int[] bounds = new int[queries.length];
+
+        int from = 0;
+        for (int q = 0; q < queries.length; ++q) {
+            if (q > 0 && comparator.compare(queries[q - 1], queries[q]) > 0) {
+                throw new IllegalArgumentException("Queries must be sorted in ascending order");
+            }
+
+            from = exponentialSearch(array, from, array.length, queries[q], comparator);
+            bounds[q] = from;
+        }
+
+        return bounds;
+    }
+
+    /**
+     * Search for all the given queries in the given array in its natural order.
+     * @see #binarySearchAll(Object[], Object[], Comparator)
+     */
+    public static <T extends Comparable<T>> int[] binarySearchAll(final T[] array, final T[] queries) {
+        return binarySearchAll(array, queries, Comparator.naturalOrder());
+    }
+
+    /**
+     * Search for all the given sorted queries in the given array.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param queries The values to search for (must be sorted in ascending order).
+     * @param comparator The comparator that determines the order of the values.
+     * @return The index of the first occurrence of every query, or -1 if it's not found, at the index of the query.
+     * @param <T> The type of values in the array.
+     */
+    public static <T> int[] binarySearchAll(
+            final T[] array,
+            final T[] queries,
+            final Comparator<? super T> comparator
+    ) {
+        final int[] indices = lowerBounds(array, queries, comparator);
+
+        for (int q = 0; q < queries.length; ++q) {
+            final int index = indices[q];
+            if (index == array.length || comparator.compare(array[index], queries[q]) != 0) {
+                indices[q] = -1;
+            }
+        }
+
+        return indices;
+    }
+
+    /**
+     * Find the lower bound of every one of the given sorted queries. If there are about as many queries as values,
+     *  the queries are merged with the array, otherwise batches of queries are searched for in lockstep by branchless
+     *  searches, every batch only searching the part of the array after the results of the previous one.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param queries The values to find the lower bounds of (must be sorted in ascending order).
+     * @return The lower bound of every query, at the index of the query.
+     */
+    public static int[] lowerBounds(final int[] array, final int[] queries) {
+        for (int q = 1; q < queries.length; ++q) {
+            if (queries[q - 1] > queries[q]) {
+                throw new IllegalArgumentException("Queries must be sorted in ascending order");
+            }
+        }
+
+        final int length = array.length;
+        final int[] bounds = new int[queries.length];
+
+        // A linear merge is cheaper than a search per query once the queries take about log n values each.
+        if ((long) queries.length * (32 - Integer.numberOfLeadingZeros(length)) >= length) {
+            int i = 0;
+            for (int q = 0; q < queries.length; ++q) {
+                final int query = queries[q];
+                while (i < length && array[i] < query) {
+                    ++i;
+                }
+                bounds[q] = i;
+            }
+
+            return bounds;
+        }
+
+        final int[] bases = new int[BATCH_SIZE];
+
+        int from = 0;
+        for (int start = 0; start < queries.length; start += BATCH_SIZE) {
+            final int end = Math.min(start + BATCH_SIZE, queries.length);
+
+            if (from == length) {
+                Arrays.fill(bounds, start, queries.length, length);
+                break;
+            }
+
+            // Descend for all the queries of the batch at once, the loads of one step don't depend on each other.
+            Arrays.fill(bases, from);
+            int remaining = length - from;
+            while (remaining > 1) {
+                final int half = remaining >>> 1;
+                for (int q = start; q < end; ++q) {
+                    final int base = bases[q - start];
+                    bases[q - start] = array[base + half] < queries[q] ? base + half : base;
+                }
+                remaining -= half;
+            }
+
+            for (int q = start; q < end; ++q) {
+                final int base = bases[q - start];
+                bounds[q] = array[base] < queries[q] ? base + 1 : base;
+            }
+
+            from = bounds[end - 1];
+        }
+
+        return bounds;
+    }
+
+    /**
+     * Find the lower bound of every one of the given sorted queries, in the same way as for an array of ints.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param queries The values to find the lower bounds of (must be sorted in ascending order).
+     * @return The lower bound of every query, at the index of the query.
+     */
+    public static int[] lowerBounds(final long[] array, final long[] queries) {
+        for (int q = 1; q < queries.length; ++q) {
+            if (queries[q - 1] > queries[q]) {
+                throw new IllegalArgumentException("Queries must be sorted in ascending order");
+            }
+        }
+
+        final int length = array.length;
+        final int[] bounds = new int[queries.length];
+
+        if ((long) queries.length * (32 - Integer.numberOfLeadingZeros(length)) >= length) {
+            int i = 0;
+            for (int q = 0; q < queries.length; ++q) {
+                final long query = queries[q];
+                while (i < length && array[i] < query) {
+                    ++i;
+                }
+                bounds[q] = i;
+            }
+
+            return bounds;
+        }
+
+        final int[] bases = new int[BATCH_SIZE];
+
+        int from = 0;
+        for (int start = 0; start < queries.length; start += BATCH_SIZE) {
+            final int end = Math.min(start + BATCH_SIZE, queries.length);
+
+            if (from == length) {
+                Arrays.fill(bounds, start, queries.length, length);
+                break;
+            }
+
+            Arrays.fill(bases, from);
+            int remaining = length - from;
+            while (remaining > 1) {
+                final int half = remaining >>> 1;
+                for (int q = start; q < end; ++q) {
+                    final int base = bases[q - start];
+                    bases[q - start] = array[base + half] < queries[q] ? base + half : base;
+                }
+                remaining -= half;
+            }
+
+            for (int q = start; q < end; ++q) {
+                final int base = bases[q - start];
+                bounds[q] = array[base] < queries[q] ? base + 1 : base;
+            }
+
+            from = bounds[end - 1];
+        }
+
+        return bounds;
+    }
+
+    /**
+     * Search for all the given sorted queries in the given array.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param queries The values to search for (must be sorted in ascending order).
+     * @return The index of the first occurrence of every query, or -1 if it's not found, at the index of the query.
+     */
+    public static int[] binarySearchAll(final int[] array, final int[] queries) {
+        final int[] indices = lowerBounds(array, queries);
+
+        for (int q = 0; q < queries.length; ++q) {
+            final int index = indices[q];
+            if (index == array.length || array[index] != queries[q]) {
+                indices[q] = -1;
+            }
+        }
+
+        return indices;
+    }
+
+    /**
+     * Search for all the given sorted queries in the given array.
+     * @param array The array to search (must be sorted in ascending order).
+     * @param queries The values to search for (must be sorted in ascending order).
+     * @return The index of the first occurrence of every query, or -1 if it's not found, at the index of the query.
+     */
+    public static int[] binarySearchAll(final long[] array, final long[] queries) {
+        final int[] indices = lowerBounds(array, queries);
+
+        for (int q = 0; q < queries.length; ++q) {
+            final int index = indices[q];
+            if (index == array.length || array[index] != queries[q]) {
+                indices[q] = -1;
+            }
+        }
+
+        return indices;
+    }
+
+    /**
+     * Range of indices found by a search.
+     * @param from The first index in the range (inclusive).
+     * @param to The end of the range (exclusive).
+     */
+    public record Range(int from, int to) {
+        /**
+         * Get the number of indices in the range.
+         * @return The number of indices.
+         */
+        public int size() {
+            return to - from;
+        }
+
+        /**
+         * Check if the range is empty.
+         * @return Whether the range is empty or not.
+         */
+        public boolean isEmpty() {
+            return from == to;
+        }
+    }
+
+    /**
+     * Search index over a sorted array of ints, which stores the values in Eytzinger (breadth first) order: the root
+     *  of the implicit search tree at index 1, and the children of index k at indices 2k and 2k + 1.
+     * <p>
+     * A classic binary search probes values far apart in the array, so every probe of a large array is a cache miss.
+     *  In this layout the first levels of the tree share a few cache lines, and the (up to) sixteen descendants four
+     *  levels below any value are adjacent, so the hardware prefetcher can fetch them while the search is still
+     *  descending. The search itself is branchless, and is several times faster than a classic search once the array
+     *  no longer fits in the cache.
+     */
+    public static final class SearchIndex {
+        /**
+         * The values in Eytzinger order, starting at index 1.
+         */
+        private final int[] values;
+
+        /**
+         * The index in the sorted array of the value at each index of the Eytzinger order.
+         */
+        private final int[] ranks;
+
+        private final int size;
+
+        /**
+         * Create a search index over the given sorted array, which is copied.
+         * @param sorted The array to search (must be sorted in ascending order).
+         */
+        public SearchIndex(final int[] sorted) {
+            this.size = sorted.length;
+            this.values = new int[size + 1];
+            this.ranks = new int[size + 1];
+
+            build(sorted, 0, 1);
+        }
+
+        /**
+         * Fill the subtree at index k with the values of the sorted array starting at index i, by an in-order
+         *  traversal of the tree.
+         * @return The index in the sorted array of the first value after the subtree.
+         */
+        private int build(final int[] sorted, int i, final int k) {
+            if (k <= size) {
+                i = build(sorted, i, 2 * k);
+                values[k] = sorted[i];
+                ranks[k] = i++;
+                i = build(sorted, i, 2 * k + 1);
+            }
+
+            return i;
+        }
+
+        /**
+         * Get the number of values in the index.
+         * @return The number of values.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Find the first index in the sorted array whose value is not less than the given value.
+         * @param value The value to find the lower bound of.
+         * @return The index in the sorted array, or the size if there is no such value.
+         */
+        public int lowerBound(final int value) {
+            // Descend the tree, going right whenever the value at k is less than the one searched for.
+            int k = 1;
+            while (k <= size) {
+                k = 2 * k + (values[k] < value ? 1 : 0);
+            }
+
+            // The lower bound is the last node at which the search went left, which is found by stripping the
+            //  trailing right turns (ones) and the final left turn (a zero) off k.
+            k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+
+            return k == 0 ? size : ranks[k];
+        }
+
+        /**
+         * Search for the given value.
+         * @param value The value of which the index should be found.
+         * @return The index in the sorted array of the first occurrence of the value if found, otherwise -1.
+         */
+        public int binarySearch(final int value) {
+            // Same descent as lowerBound, but the value is checked at its position in the Eytzinger order.
+            int k = 1;
+            while (k <= size) {
+                k = 2 * k + (values[k] < value ? 1 : 0);
+            }
+
+            k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+
+            return k != 0 && values[k] == value ? ranks[k] : -1;
+        }
+    }
 }
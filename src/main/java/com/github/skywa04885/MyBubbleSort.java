@@ -1,6 +1,7 @@
 package com.github.skywa04885;
 
-import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
 
 /**
  * My implementation of the bubble sort algorithm.
@@ -16,21 +17,24 @@ public final class MyBubbleSort implements MySorter {
     }
 
     /**
-     * Sort the given unsorted array using bubble sort.
-     * @param unsorted The unsorted array.
-     * @return A sorted copy of the unsorted array.
+     * Sort the range [from, to) of the given array in place using bubble sort.
+     * @param array The array of which the range should be sorted.
+     * @param from The start of the range (inclusive).
+     * @param to The end of the range (exclusive).
+     * @param comparator The comparator that determines the order of the values.
      * @param <T> The type of values in the array.
      */
     @Override
-    public <T extends Comparable<T>> T[] sort(final T[] unsorted) {
-        final T[] array = Arrays.copyOf(unsorted, unsorted.length);
-        final int n = array.length;
+    public <T> void sortInPlace(final T[] array, final int from, final int to, final Comparator<? super T> comparator) {
+        Objects.checkFromToIndex(from, to, array.length);
+
+        final int n = to - from;
         boolean swapped;
 
         for (int i = 0; i < n - 1; i++) {
             swapped = false;
-            for (int j = 0; j < n - i - 1; j++) {
-                if (array[j].compareTo(array[j + 1]) > 0) {
+            for (int j = from; j < to - i - 1; j++) {
+                if (comparator.compare(array[j], array[j + 1]) > 0) {
                     swap(array, j, j + 1);
                     swapped = true;
                 }
@@ -40,8 +44,6 @@ public final class MyBubbleSort implements MySorter {
                 break;
             }
         }
-
-        return array;
     }
 
     /**
@@ -0,0 +1,404 @@
+package com.github.skywa04885;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * My implementation of a hash table that can safely be shared between threads.
+ * <p>
+ * Like MyHashTable it chains the entries of a bucket, but every bucket is locked on its own: an insertion into an
+ *  empty bucket installs the new head with a compare-and-set, and any other modification locks the head node of
+ *  just that bucket. Reads take no locks at all, they follow the volatile links of the chain.
+ * <p>
+ * When the table grows, it does not get replaced all at once. The threads that modify the table cooperatively
+ *  move the buckets into the new table, claiming a few buckets at a time, and put a forwarding node in every
+ *  bucket that has been moved, so readers and writers know to continue in the new table.
+ * @param <TKey> The type of key in the hash table (cannot be null).
+ * @param <TValue> The type of value in the hash table (cannot be null).
+ */
+public class MyConcurrentHashTable<TKey, TValue> {
+    /**
+     * The load factor beyond which the table grows.
+     */
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    /**
+     * The number of buckets a thread claims at once when helping to move the buckets into a grown table.
+     */
+    private static final int TRANSFER_STRIDE = 16;
+
+    /**
+     * The hash of a forwarding node, which regular nodes never have since their hashes are non-negative.
+     */
+    private static final int MOVED = -1;
+
+    /**
+     * A node in the chain of a bucket.
+     * @param <TKey> The type of key.
+     * @param <TValue> The type of value.
+     */
+    private static class Node<TKey, TValue> {
+        private final int hash;
+        private final TKey key;
+        private volatile TValue value;
+        private volatile Node<TKey, TValue> next;
+
+        public Node(final int hash, final TKey key, final TValue value, final Node<TKey, TValue> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * The node put in a bucket that has been moved into the grown table.
+     * @param <TKey> The type of key.
+     * @param <TValue> The type of value.
+     */
+    private static final class ForwardingNode<TKey, TValue> extends Node<TKey, TValue> {
+        private final AtomicReferenceArray<Node<TKey, TValue>> nextTable;
+
+        public ForwardingNode(final AtomicReferenceArray<Node<TKey, TValue>> nextTable) {
+            super(MOVED, null, null, null);
+            this.nextTable = nextTable;
+        }
+    }
+
+    /**
+     * The state of a single growth of the table, shared by all the threads helping with it.
+     * @param <TKey> The type of key.
+     * @param <TValue> The type of value.
+     */
+    private static final class Resize<TKey, TValue> {
+        private final AtomicReferenceArray<Node<TKey, TValue>> oldTable;
+        private final AtomicReferenceArray<Node<TKey, TValue>> newTable;
+        private final ForwardingNode<TKey, TValue> forwardingNode;
+
+        /**
+         * The exclusive upper bound of the buckets that have not been claimed yet, claiming happens downwards.
+         */
+        private final AtomicInteger transferIndex;
+
+        /**
+         * The number of buckets that have been moved into the new table.
+         */
+        private final AtomicInteger transferred = new AtomicInteger();
+
+        public Resize(
+                final AtomicReferenceArray<Node<TKey, TValue>> oldTable,
+                final AtomicReferenceArray<Node<TKey, TValue>> newTable
+        ) {
+            this.oldTable = oldTable;
+            this.newTable = newTable;
+            this.forwardingNode = new ForwardingNode<>(newTable);
+            this.transferIndex = new AtomicInteger(oldTable.length());
+        }
+    }
+
+    private volatile AtomicReferenceArray<Node<TKey, TValue>> table;
+    private volatile Resize<TKey, TValue> resize;
+    private final Object resizeLock = new Object();
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Create a new hash table with the default number of initial buckets.
+     */
+    public MyConcurrentHashTable() {
+        this(16);
+    }
+
+    /**
+     * Create a new hash table with the given number of initial buckets (rounded up to a power of two).
+     * @param buckets The initial number of buckets.
+     */
+    public MyConcurrentHashTable(final int buckets) {
+        this.table = new AtomicReferenceArray<>(MyHashMixer.capacityFor(buckets));
+    }
+
+    /**
+     * Get the number of entries in the hash table, which is only exact if no modifications happen concurrently.
+     * @return The number of entries.
+     */
+    public int size() {
+        return (int) Math.min(size.sum(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get the load factor of the hash table.
+     * @return The load factor of the hash table.
+     */
+    public double loadFactor() {
+        return (double) size.sum() / (double) table.length();
+    }
+
+    /**
+     * Insert the given key/ value pair into the hash table.
+     * @param key   The key to insert the value under.
+     * @param value The value to insert under the key.
+     */
+    public void insert(final TKey key, final TValue value) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        final int hash = hash(key);
+        AtomicReferenceArray<Node<TKey, TValue>> table = this.table;
+
+        while (true) {
+            final int index = hash & (table.length() - 1);
+            final Node<TKey, TValue> head = table.get(index);
+
+            // If the bucket is empty, try to install the new node as its head, if another thread beat us to it,
+            //  simply retry.
+            if (head == null) {
+                if (table.compareAndSet(index, null, new Node<>(hash, key, value, null))) {
+                    break;
+                }
+                continue;
+            }
+
+            // If the bucket has been moved, help moving the rest and continue in the new table.
+            if (head instanceof ForwardingNode<TKey, TValue> forwardingNode) {
+                helpTransfer(table);
+                table = forwardingNode.nextTable;
+                continue;
+            }
+
+            // Lock the bucket by its head, and make sure it's still the head once the lock is acquired (it might've
+            //  been deleted or the bucket might've been moved in the meantime).
+            synchronized (head) {
+                if (table.get(index) != head) {
+                    continue;
+                }
+
+                // Traverse the chain for an existing instance of the key, if found, replace its value.
+                Node<TKey, TValue> node = head;
+                while (true) {
+                    if (node.hash == hash && node.key.equals(key)) {
+                        node.value = value;
+                        return;
+                    }
+
+                    if (node.next == null) {
+                        break;
+                    }
+
+                    node = node.next;
+                }
+
+                // Since the key was not found, append a new node to the end of the chain.
+                node.next = new Node<>(hash, key, value, null);
+            }
+
+            break;
+        }
+
+        size.increment();
+
+        // Grow the table if it got too full.
+        if (size.sum() > table.length() * MAX_LOAD_FACTOR) {
+            startResize(table);
+        }
+    }
+
+    /**
+     * Get the value associated with the given key, without taking any locks.
+     * @param key The key to get the value for.
+     * @return The optional found value.
+     */
+    public Optional<TValue> get(final TKey key) {
+        return Optional.ofNullable(getOrDefault(key, null));
+    }
+
+    /**
+     * Get the value associated with the given key without allocating an optional, and without taking any locks.
+     * @param key The key to get the value for.
+     * @param defaultValue The value to return if the key is not in the hash table.
+     * @return The found value, or the default value.
+     */
+    public TValue getOrDefault(final TKey key, final TValue defaultValue) {
+        Objects.requireNonNull(key, "Key cannot be null");
+
+        final int hash = hash(key);
+        AtomicReferenceArray<Node<TKey, TValue>> table = this.table;
+
+        Node<TKey, TValue> node = table.get(hash & (table.length() - 1));
+        while (node != null) {
+            // If the bucket has been moved, continue the lookup in the new table.
+            if (node instanceof ForwardingNode<TKey, TValue> forwardingNode) {
+                table = forwardingNode.nextTable;
+                node = table.get(hash & (table.length() - 1));
+                continue;
+            }
+
+            if (node.hash == hash && node.key.equals(key)) {
+                return node.value;
+            }
+
+            node = node.next;
+        }
+
+        return defaultValue;
+    }
+
+    /**
+     * Delete the entry with the given key from the hash table.
+     * @param key The key that should be deleted.
+     * @return The value associated with the key, if it was deleted.
+     */
+    public Optional<TValue> delete(final TKey key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+
+        final int hash = hash(key);
+        AtomicReferenceArray<Node<TKey, TValue>> table = this.table;
+
+        while (true) {
+            final int index = hash & (table.length() - 1);
+            final Node<TKey, TValue> head = table.get(index);
+
+            // If the bucket is empty, there is no entry with the specified key.
+            if (head == null) {
+                return Optional.empty();
+            }
+
+            // If the bucket has been moved, help moving the rest and continue in the new table.
+            if (head instanceof ForwardingNode<TKey, TValue> forwardingNode) {
+                helpTransfer(table);
+                table = forwardingNode.nextTable;
+                continue;
+            }
+
+            synchronized (head) {
+                if (table.get(index) != head) {
+                    continue;
+                }
+
+                // Traverse the chain, keeping track of the previous node so the match can be unlinked.
+                Node<TKey, TValue> previous = null;
+                Node<TKey, TValue> node = head;
+                while (node != null) {
+                    if (node.hash == hash && node.key.equals(key)) {
+                        if (previous == null) {
+                            table.set(index, node.next);
+                        } else {
+                            previous.next = node.next;
+                        }
+
+                        size.decrement();
+                        return Optional.of(node.value);
+                    }
+
+                    previous = node;
+                    node = node.next;
+                }
+
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Start growing the given table, unless it has already been replaced or is already growing.
+     * @param table The table that is too full.
+     */
+    private void startResize(final AtomicReferenceArray<Node<TKey, TValue>> table) {
+        if (table.length() >= MyHashMixer.MAX_CAPACITY) {
+            return;
+        }
+
+        synchronized (resizeLock) {
+            if (this.table != table || resize != null) {
+                return;
+            }
+
+            resize = new Resize<>(table, new AtomicReferenceArray<>(table.length() << 1));
+        }
+
+        helpTransfer(table);
+    }
+
+    /**
+     * Help moving the buckets of the given table into the grown table, if it is still growing.
+     * @param table The table of which the buckets should be moved.
+     */
+    private void helpTransfer(final AtomicReferenceArray<Node<TKey, TValue>> table) {
+        final Resize<TKey, TValue> resize = this.resize;
+        if (resize == null || resize.oldTable != table) {
+            return;
+        }
+
+        // Keep claiming strides of buckets (from the top down) until all of them have been claimed.
+        int upper;
+        while ((upper = resize.transferIndex.getAndAdd(-TRANSFER_STRIDE)) > 0) {
+            final int lower = Math.max(0, upper - TRANSFER_STRIDE);
+
+            for (int index = upper - 1; index >= lower; --index) {
+                transfer(resize, index);
+            }
+
+            // The thread that moved the last bucket publishes the new table.
+            if (resize.transferred.addAndGet(upper - lower) == table.length()) {
+                synchronized (resizeLock) {
+                    this.table = resize.newTable;
+                    this.resize = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Move the bucket with the given index into the new table, splitting its chain over the buckets index and
+     *  index + n of the new table. The nodes are copied, so readers still traversing the old chain are not affected.
+     * @param resize The growth during which the bucket is moved.
+     * @param index The index of the bucket.
+     */
+    private static <TKey, TValue> void transfer(final Resize<TKey, TValue> resize, final int index) {
+        final AtomicReferenceArray<Node<TKey, TValue>> oldTable = resize.oldTable;
+        final int n = oldTable.length();
+
+        while (true) {
+            final Node<TKey, TValue> head = oldTable.get(index);
+
+            // An empty bucket only needs the forwarding node.
+            if (head == null) {
+                if (oldTable.compareAndSet(index, null, resize.forwardingNode)) {
+                    return;
+                }
+                continue;
+            }
+
+            synchronized (head) {
+                if (oldTable.get(index) != head) {
+                    continue;
+                }
+
+                Node<TKey, TValue> low = null;
+                Node<TKey, TValue> high = null;
+                for (Node<TKey, TValue> node = head; node != null; node = node.next) {
+                    if ((node.hash & n) == 0) {
+                        low = new Node<>(node.hash, node.key, node.value, low);
+                    } else {
+                        high = new Node<>(node.hash, node.key, node.value, high);
+                    }
+                }
+
+                resize.newTable.set(index, low);
+                resize.newTable.set(index + n, high);
+                oldTable.set(index, resize.forwardingNode);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Calculate the (non-negative) hash of the given key.
+     * @param key The key to hash.
+     * @return The hash of the key.
+     */
+    private static int hash(final Object key) {
+        return MyHashMixer.mix(key.hashCode()) & Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.skywa04885;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Interface for a queue that hands values from producer threads to a single consumer thread without locking.
+ * <p>
+ * Only one thread at a time may poll or drain the queue. Whether multiple threads may offer at once depends on the
+ *  implementation. Values cannot be null.
+ * @param <T> The type of values in the queue.
+ */
+public interface MyConcurrentQueue<T> {
+    /**
+     * Add the given value to the back of the queue, if there is room for it.
+     * @param value The value to add.
+     * @return Whether the value was added, false if the queue is full.
+     */
+    boolean offer(final T value);
+
+    /**
+     * Remove the value at the front of the queue.
+     * @return The removed value, if there.
+     */
+    Optional<T> poll();
+
+    /**
+     * Remove up to the given number of values from the front of the queue, and pass them to the given consumer in
+     *  order. Only the values that are available right away are taken, and the consumption of all of them is made
+     *  visible to the producers at once.
+     * @param consumer The consumer of the removed values.
+     * @param limit The maximum number of values to remove, which cannot be negative.
+     * @return The number of removed values.
+     */
+    int drain(final Consumer<? super T> consumer, final int limit);
+
+    /**
+     * Remove all the values that are available right away from the queue, and pass them to the given consumer.
+     * @param consumer The consumer of the removed values.
+     * @return The number of removed values.
+     */
+    default int drain(final Consumer<? super T> consumer) {
+        return drain(consumer, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get the number of values in the queue, which may already be outdated when other threads use the queue.
+     * @return The number of values in the queue.
+     */
+    int size();
+
+    /**
+     * Check if the queue is empty, which may already be outdated when other threads use the queue.
+     * @return Whether the queue is empty or not.
+     */
+    boolean isEmpty();
+}
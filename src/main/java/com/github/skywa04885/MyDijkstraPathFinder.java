@@ -18,6 +18,7 @@ public class MyDijkstraPathFinder<TVertex> {
             private final TVertex vertex;
             private int distance;
             private TVertex parent;
+            private int handle = -1;
 
             /**
              * Construct a new empty table entry.
@@ -66,6 +67,18 @@ public class MyDijkstraPathFinder<TVertex> {
             public void setParent(TVertex parent) {
                 this.parent = parent;
             }
+
+            public boolean isQueued() {
+                return handle != -1;
+            }
+
+            public int getHandle() {
+                return handle;
+            }
+
+            public void setHandle(int handle) {
+                this.handle = handle;
+            }
         }
 
         /**
@@ -93,20 +106,6 @@ public class MyDijkstraPathFinder<TVertex> {
         public Optional<Entry<TVertex>> get(final TVertex vertex) {
             return Optional.ofNullable(tableEntries.get(vertex));
         }
-
-        /**
-         * Find the open vertex with the shortest distance.
-         *
-         * @param openVertices The open vertices for which the one with the shortest distance should be found.
-         * @return If exists, the open vertex with the shortest distance.
-         */
-        public Optional<Entry<TVertex>> findOpenVertexWithShortestDistance(final Set<TVertex> openVertices) {
-            // Find the entry with the min distance from the open vertices.
-            return openVertices.stream()
-                    .map(this::get)
-                    .flatMap(Optional::stream)
-                    .min(Comparator.comparingInt(Entry::getDistance));
-        }
     }
 
     /**
@@ -128,26 +127,33 @@ public class MyDijkstraPathFinder<TVertex> {
         table.initializeFor(graph);
 
         // Set the distance to the origin vertex to zero.
-        table.get(originVertex)
-                .orElseThrow(() -> new IllegalArgumentException("Could not find the origin vertex in the table"))
-                .setDistance(0);
-
-        // Create the sets containing all the open and closed vertices.
-        final Set<TVertex> openVertices = new HashSet<>(graph.getVertices());
+        final Table.Entry<TVertex> originEntry = table.get(originVertex)
+                .orElseThrow(() -> new IllegalArgumentException("Could not find the origin vertex in the table"));
+        originEntry.setDistance(0);
+
+        // Create the queue of open vertices ordered by their distance, together with the set of closed vertices. Only
+        //  vertices that have been reached are in the queue, each entry remembers its handle so its distance can be
+        //  decreased in place when a shorter path to it is found.
+        final MyPriorityQueue<Table.Entry<TVertex>> openVertices = new MyPriorityQueue<>();
         final Set<TVertex> closedVertices = new HashSet<>();
 
-        // Keep iterating as long as here are open nodes.
+        originEntry.setHandle(openVertices.enqueue(0, originEntry));
+
+        // Keep iterating as long as here are open vertices.
         while (!openVertices.isEmpty()) {
             // Get the table entry with the shortest distance to it.
-            final Table.Entry<TVertex> fromEntry = table
-                    .findOpenVertexWithShortestDistance(openVertices)
-                    .orElseThrow(() -> new IllegalStateException("Could not find shortest distance entry " +
-                            "even though there are still open vertices, should never happen."));
-
+            final Table.Entry<TVertex> fromEntry = openVertices
+                    .dequeue()
+                    .orElseThrow(() -> new IllegalStateException("Could not dequeue the shortest distance entry " +
+                            "even though the queue is not empty, should never happen."));
 
             // Get the current open vertex that we're looking at.
             final TVertex fromVertex = fromEntry.getVertex();
 
+            // Move the currently visited vertex from the queue to the closed vertices to mark it as done.
+            fromEntry.setHandle(-1);
+            closedVertices.add(fromVertex);
+
             // Get all the edges attached to the current vertex.
             final Set<MyGraph.Edge<TVertex>> edges = graph
                     .getEdgesOf(fromVertex)
@@ -174,20 +180,22 @@ public class MyDijkstraPathFinder<TVertex> {
                 // If the distance sum of the current from-entry and the weight of the edge exceeds
                 //  the already present distance, then this will not be the next shortest distance, hence do
                 //  not update.
-                if (fromEntry.getDistance() + weight > toEntry.getDistance()) {
+                final int distance = fromEntry.getDistance() + weight;
+                if (distance > toEntry.getDistance()) {
                     return;
                 }
 
                 // Since the new distance is shorter than the one already present, make the from-vertex its new
-                //  parent to make the optimal path.
+                //  parent to make the optimal path, and open the to-vertex or decrease its distance in the queue.
                 toEntry.setParent(fromVertex);
-                toEntry.setDistance(fromEntry.getDistance() + weight);
-            });
+                toEntry.setDistance(distance);
 
-            // Move the currently visited vertex from the open vertices set to the closed vertices set
-            //  to mark it as done.
-            openVertices.remove(fromVertex);
-            closedVertices.add(fromVertex);
+                if (toEntry.isQueued()) {
+                    openVertices.decreaseKey(toEntry.getHandle(), distance);
+                } else {
+                    toEntry.setHandle(openVertices.enqueue(distance, toEntry));
+                }
+            });
         }
     }
 
@@ -0,0 +1,183 @@
+package com.github.skywa04885;
+
+import java.util.Arrays;
+
+/**
+ * My implementation of an array list specialized for double values, storing them unboxed in a double[].
+ */
+public class MyDoubleArrayList {
+    private double[] array;
+    private int size;
+
+    /**
+     * Create a new list with the default initial capacity.
+     */
+    public MyDoubleArrayList() {
+        this(10);
+    }
+
+    /**
+     * Create a new list with the given initial capacity.
+     * @param initialCapacity The initial capacity of the list.
+     */
+    public MyDoubleArrayList(final int initialCapacity) {
+        this.array = new double[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Check if the list is empty.
+     * @return Whether the list is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Add all the given values to the list, growing the backing array at most once.
+     * @param values The values to add to the list.
+     */
+    public void addAll(final double... values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Add the values in the range [from, to) of the given array to the list, growing the backing array at most once.
+     * @param values The array containing the values to add.
+     * @param from The index of the first value to add (inclusive).
+     * @param to The index of the last value to add (exclusive).
+     */
+    public void addAll(final double[] values, final int from, final int to) {
+        if (from < 0 || to > values.length || from > to) {
+            throw new IndexOutOfBoundsException("Range is out of bounds");
+        }
+
+        final int count = to - from;
+        ensureCapacity(size + count);
+
+        System.arraycopy(values, from, array, size, count);
+        size += count;
+    }
+
+    /**
+     * Get the size of the list.
+     * @return The size of the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the value at the given index from the list.
+     * @param index The index to get the value at.
+     * @return The value at the given index.
+     */
+    public double get(final int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        } else if (index >= size) {
+            throw new IndexOutOfBoundsException("Index is out of bounds");
+        }
+
+        return array[index];
+    }
+
+    /**
+     * Find the index of the first occurrence of the given value, values are compared like Double.equals does (so NaN
+     *  can be found, and 0.0 and -0.0 are different values).
+     * @param value The value to find the index of.
+     * @return The index of the value, or -1 if not in the list.
+     */
+    public int indexOf(final double value) {
+        final long bits = Double.doubleToLongBits(value);
+
+        for (int i = 0; i < size; ++i) {
+            if (Double.doubleToLongBits(array[i]) == bits) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Add the given value to the list.
+     * @param value The value to add to the list.
+     */
+    public void add(final double value) {
+        if (array.length == size) {
+            grow(size + 1);
+        }
+
+        assert array.length > size;
+
+        array[size++] = value;
+    }
+
+    /**
+     * Remove the first occurrence of the given value from the list.
+     * @param value The value to be removed from the list.
+     * @return Whether the value was removed or not.
+     */
+    public boolean remove(final double value) {
+        int index = indexOf(value);
+        if (index == -1) {
+            return false;
+        }
+
+        if (index < size - 1) {
+            System.arraycopy(array, index + 1, array, index, size - index - 1);
+        }
+
+        --size;
+
+        return true;
+    }
+
+    /**
+     * Remove all the values from the list, keeping the backing array.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Make sure the list can hold the given number of values without growing.
+     * @param capacity The minimum capacity.
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > array.length) {
+            grow(capacity);
+        }
+    }
+
+    private void grow(final int minCapacity) {
+        // The new capacity of the array list should at least be ten, or one and a half times the old capacity if
+        //  that's enough to hold the minimum capacity.
+        final int newCapacity = Math.max(minCapacity, array.length < 10 ? 10 : array.length + (array.length >> 1));
+        array = Arrays.copyOf(array, newCapacity);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+
+        for (int i = 0; i < size; ++i) {
+            builder.append(array[i]);
+            if (i < size - 1) {
+                builder.append(", ");
+            }
+        }
+
+        builder.append("}");
+        return builder.toString();
+    }
+
+    /**
+     * Turn the list into an array.
+     * @return The array containing all the values from the list.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+}
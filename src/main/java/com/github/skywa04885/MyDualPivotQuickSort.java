@@ -0,0 +1,728 @@
+package com.github.skywa04885;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * My implementation of the dual-pivot quicksort algorithm, for both objects and primitives.
+ * <p>
+ * Every range is partitioned around two pivots into three parts: the values less than the first pivot, the values
+ *  between the pivots, and the values greater than the second pivot. This needs fewer comparisons and swaps than
+ *  partitioning around a single pivot. Small ranges are insertion sorted, and ranges that recurse too deep are heap
+ *  sorted, so the sort never degrades into quadratic time. Unlike the merge sorts, this sort is not stable.
+ */
+public final class MyDualPivotQuickSort implements MySorter, MyPrimitiveSorter {
+    /**
+     * The size of a range below which it's insertion sorted.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 47;
+
+    private static final MyDualPivotQuickSort INSTANCE = new MyDualPivotQuickSort();
+
+    public static MyDualPivotQuickSort getInstance() {
+        return INSTANCE;
+    }
+
+    private MyDualPivotQuickSort() {
+    }
+
+    /**
+     * Sort the range [from, to) of the given array in place using dual-pivot quicksort.
+     * @param array The array of which the range should be sorted.
+     * @param from The start of the range (inclusive).
+     * @param to The end of the range (exclusive).
+     * @param comparator The comparator that determines the order of the values.
+     * @param <T> The type of values in the array.
+     */
+    @Override
+    public <T> void sortInPlace(final T[] array, final int from, final int to, final Comparator<? super T> comparator) {
+        Objects.checkFromToIndex(from, to, array.length);
+        quickSort(array, from, to - 1, maxDepth(to - from), comparator);
+    }
+
+    /**
+     * Sort the given unsorted array of ints using dual-pivot quicksort.
+     * @param unsorted The unsorted array.
+     * @return A sorted copy of the unsorted array.
+     */
+    @Override
+    public int[] sort(final int[] unsorted) {
+        final int[] array = Arrays.copyOf(unsorted, unsorted.length);
+        quickSort(array, 0, array.length - 1, maxDepth(array.length));
+        return array;
+    }
+
+    /**
+     * Sort the given unsorted array of longs using dual-pivot quicksort.
+     * @param unsorted The unsorted array.
+     * @return A sorted copy of the unsorted array.
+     */
+    @Override
+    public long[] sort(final long[] unsorted) {
+        final long[] array = Arrays.copyOf(unsorted, unsorted.length);
+        quickSort(array, 0, array.length - 1, maxDepth(array.length));
+        return array;
+    }
+
+    /**
+     * Sort the given unsorted array of doubles using dual-pivot quicksort.
+     * @param unsorted The unsorted array.
+     * @return A sorted copy of the unsorted array.
+     */
+    @Override
+    public double[] sort(final double[] unsorted) {
+        final double[] array = Arrays.copyOf(unsorted, unsorted.length);
+
+        // The primitive comparisons don't order NaN and -0.0, so move the NaN values to the end and turn the negative
+        //  zeros into positive ones (counting them), then sort the rest with the primitive comparisons.
+        int end = array.length;
+        int negativeZeros = 0;
+        for (int i = end - 1; i >= 0; --i) {
+            final double value = array[i];
+            if (Double.isNaN(value)) {
+                array[i] = array[--end];
+                array[end] = value;
+            } else if (value == 0.0 && Double.doubleToRawLongBits(value) != 0L) {
+                array[i] = 0.0;
+                ++negativeZeros;
+            }
+        }
+
+        quickSort(array, 0, end - 1, maxDepth(end));
+
+        // Put the negative zeros back in front of the positive ones.
+        if (negativeZeros > 0) {
+            int zero = Arrays.binarySearch(array, 0, end, 0.0);
+            while (zero > 0 && array[zero - 1] == 0.0) {
+                --zero;
+            }
+            for (int i = 0; i < negativeZeros; ++i) {
+                array[zero + i] = -0.0;
+            }
+        }
+
+        return array;
+    }
+
+    /**
+     * Get the number of partitioning levels after which a range of the given length falls back to heap sort.
+     * @param length The length of the range.
+     * @return The maximum depth.
+     */
+    private static int maxDepth(final int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(length));
+    }
+
+    /**
+     * Sort the range [left, right] of the given array.
+     * @param array The array of which the range should be sorted.
+     * @param left The start of the range (inclusive).
+     * @param right The end of the range (inclusive).
+     * @param depth The number of partitioning levels left before falling back to heap sort.
+     * @param comparator The comparator that determines the order of the values.
+     * @param <T> The type of values in the array.
+     */
+    private static <T> void quickSort(
+            final T[] array,
+            final int left,
+            final int right,
+            final int depth,
+            final Comparator<? super T> comparator
+    ) {
+        final int length = right - left + 1;
+
+        if (length < INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, left, right, comparator);
+            return;
+        }
+
+        if (depth == 0) {
+            heapSort(array, left, right, comparator);
+            return;
+        }
+
+        final int seventh = (length >> 3) + (length >> 6) + 1;
+        final int e3 = (left + right) >>> 1;
+        final int e2 = e3 - seventh;
+        final int e1 = e2 - seventh;
+        final int e4 = e3 + seventh;
+        final int e5 = e4 + seventh;
+        sortSamples(array, e1, e2, e3, e4, e5, comparator);
+        swap(array, e2, left);
+        swap(array, e4, right);
+
+        final T pivot1 = array[left];
+        final T pivot2 = array[right];
+
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (comparator.compare(array[k], pivot1) < 0) {
+                swap(array, k, less++);
+            } else if (comparator.compare(array[k], pivot2) > 0) {
+                while (k < great && comparator.compare(array[great], pivot2) > 0) {
+                    --great;
+                }
+                swap(array, k, great--);
+
+                if (comparator.compare(array[k], pivot1) < 0) {
+                    swap(array, k, less++);
+                }
+            }
+        }
+
+        swap(array, less - 1, left);
+        swap(array, great + 1, right);
+
+        quickSort(array, left, less - 2, depth - 1, comparator);
+        quickSort(array, great + 2, right, depth - 1, comparator);
+
+        if (comparator.compare(pivot1, pivot2) != 0) {
+            quickSort(array, less, great, depth - 1, comparator);
+        }
+    }
+
+    private static <T> void insertionSort(
+            final T[] array,
+            final int left,
+            final int right,
+            final Comparator<? super T> comparator
+    ) {
+        for (int i = left + 1; i <= right; ++i) {
+            final T value = array[i];
+
+            int j = i - 1;
+            while (j >= left && comparator.compare(array[j], value) > 0) {
+                array[j + 1] = array[j];
+                --j;
+            }
+
+            array[j + 1] = value;
+        }
+    }
+
+    private static <T> void heapSort(
+            final T[] array,
+            final int left,
+            final int right,
+            final Comparator<? super T> comparator
+    ) {
+        final int length = right - left + 1;
+
+        for (int i = length / 2 - 1; i >= 0; --i) {
+            siftDown(array, left, i, length, comparator);
+        }
+
+        for (int end = length - 1; end > 0; --end) {
+            swap(array, left, left + end);
+            siftDown(array, left, 0, end, comparator);
+        }
+    }
+
+    private static <T> void siftDown(
+            final T[] array,
+            final int offset,
+            int index,
+            final int length,
+            final Comparator<? super T> comparator
+    ) {
+        final T value = array[offset + index];
+
+        int child;
+        while ((child = 2 * index + 1) < length) {
+            if (child + 1 < length && comparator.compare(array[offset + child + 1], array[offset + child]) > 0) {
+                ++child;
+            }
+            if (comparator.compare(value, array[offset + child]) >= 0) {
+                break;
+            }
+
+            array[offset + index] = array[offset + child];
+            index = child;
+        }
+
+        array[offset + index] = value;
+    }
+
+    /**
+     * Sort the five samples at the given indices, using a sorting network of nine comparisons.
+     */
+    private static <T> void sortSamples(
+            final T[] array,
+            final int e1,
+            final int e2,
+            final int e3,
+            final int e4,
+            final int e5,
+            final Comparator<? super T> comparator
+    ) {
+        sortPair(array, e1, e2, comparator);
+        sortPair(array, e4, e5, comparator);
+        sortPair(array, e3, e5, comparator);
+        sortPair(array, e3, e4, comparator);
+        sortPair(array, e2, e5, comparator);
+        sortPair(array, e1, e4, comparator);
+        sortPair(array, e1, e3, comparator);
+        sortPair(array, e2, e4, comparator);
+        sortPair(array, e2, e3, comparator);
+    }
+
+    private static <T> void sortPair(
+            final T[] array,
+            final int i,
+            final int j,
+            final Comparator<? super T> comparator
+    ) {
+        if (comparator.compare(array[i], array[j]) > 0) {
+            swap(array, i, j);
+        }
+    }
+
+    private static <T> void swap(final T[] array, final int i, final int j) {
+        final T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Sort the range [left, right] of the given array.
+     * @param array The array of which the range should be sorted.
+     * @param left The start of the range (inclusive).
+     * @param right The end of the range (inclusive).
+     * @param depth The number of partitioning levels left before falling back to heap sort.
+     */
+    private static void quickSort(final int[] array, final int left, final int right, final int depth) {
+        final int length = right - left + 1;
+
+        if (length < INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, left, right);
+            return;
+        }
+
+        // Prevent quadratic behaviour on adversarial inputs, by switching to heap sort when recursing too deep.
+        if (depth == 0) {
+            heapSort(array, left, right);
+            return;
+        }
+
+        // Sort five evenly spaced samples, and use the second and fourth of them as the pivots, moving them to the
+        //  ends. Those split the range more evenly than two arbitrary values would.
+        final int seventh = (length >> 3) + (length >> 6) + 1;
+        final int e3 = (left + right) >>> 1;
+        final int e2 = e3 - seventh;
+        final int e1 = e2 - seventh;
+        final int e4 = e3 + seventh;
+        final int e5 = e4 + seventh;
+        sortSamples(array, e1, e2, e3, e4, e5);
+        swap(array, e2, left);
+        swap(array, e4, right);
+
+        final int pivot1 = array[left];
+        final int pivot2 = array[right];
+
+        // Partition into [left + 1, less) < pivot1 <= [less, great] <= pivot2 < (great, right - 1].
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (array[k] < pivot1) {
+                swap(array, k, less++);
+            } else if (array[k] > pivot2) {
+                while (k < great && array[great] > pivot2) {
+                    --great;
+                }
+                swap(array, k, great--);
+
+                if (array[k] < pivot1) {
+                    swap(array, k, less++);
+                }
+            }
+        }
+
+        // Move the pivots into their final positions.
+        swap(array, less - 1, left);
+        swap(array, great + 1, right);
+
+        quickSort(array, left, less - 2, depth - 1);
+        quickSort(array, great + 2, right, depth - 1);
+
+        // If the pivots are equal, the middle part only contains values equal to them, so it's already sorted.
+        if (pivot1 != pivot2) {
+            quickSort(array, less, great, depth - 1);
+        }
+    }
+
+    private static void insertionSort(final int[] array, final int left, final int right) {
+        for (int i = left + 1; i <= right; ++i) {
+            final int value = array[i];
+
+            int j = i - 1;
+            while (j >= left && array[j] > value) {
+                array[j + 1] = array[j];
+                --j;
+            }
+
+            array[j + 1] = value;
+        }
+    }
+
+    private static void heapSort(final int[] array, final int left, final int right) {
+        final int length = right - left + 1;
+
+        for (int i = length / 2 - 1; i >= 0; --i) {
+            siftDown(array, left, i, length);
+        }
+
+        for (int end = length - 1; end > 0; --end) {
+            swap(array, left, left + end);
+            siftDown(array, left, 0, end);
+        }
+    }
+
+    private static void siftDown(final int[] array, final int offset, int index, final int length) {
+        final int value = array[offset + index];
+
+        int child;
+        while ((child = 2 * index + 1) < length) {
+            if (child + 1 < length && array[offset + child + 1] > array[offset + child]) {
+                ++child;
+            }
+            if (value >= array[offset + child]) {
+                break;
+            }
+
+            array[offset + index] = array[offset + child];
+            index = child;
+        }
+
+        array[offset + index] = value;
+    }
+
+    /**
+     * Sort the five samples at the given indices, using a sorting network of nine comparisons.
+     */
+    private static void sortSamples(
+            final int[] array,
+            final int e1,
+            final int e2,
+            final int e3,
+            final int e4,
+            final int e5
+    ) {
+        sortPair(array, e1, e2);
+        sortPair(array, e4, e5);
+        sortPair(array, e3, e5);
+        sortPair(array, e3, e4);
+        sortPair(array, e2, e5);
+        sortPair(array, e1, e4);
+        sortPair(array, e1, e3);
+        sortPair(array, e2, e4);
+        sortPair(array, e2, e3);
+    }
+
+    private static void sortPair(final int[] array, final int i, final int j) {
+        if (array[i] > array[j]) {
+            swap(array, i, j);
+        }
+    }
+
+    private static void swap(final int[] array, final int i, final int j) {
+        final int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Sort the range [left, right] of the given array.
+     * @param array The array of which the range should be sorted.
+     * @param left The start of the range (inclusive).
+     * @param right The end of the range (inclusive).
+     * @param depth The number of partitioning levels left before falling back to heap sort.
+     */
+    private static void quickSort(final long[] array, final int left, final int right, final int depth) {
+        final int length = right - left + 1;
+
+        if (length < INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, left, right);
+            return;
+        }
+
+        // Prevent quadratic behaviour on adversarial inputs, by switching to heap sort when recursing too deep.
+        if (depth == 0) {
+            heapSort(array, left, right);
+            return;
+        }
+
+        // Sort five evenly spaced samples, and use the second and fourth of them as the pivots, moving them to the
+        //  ends. Those split the range more evenly than two arbitrary values would.
+        final int seventh = (length >> 3) + (length >> 6) + 1;
+        final int e3 = (left + right) >>> 1;
+        final int e2 = e3 - seventh;
+        final int e1 = e2 - seventh;
+        final int e4 = e3 + seventh;
+        final int e5 = e4 + seventh;
+        sortSamples(array, e1, e2, e3, e4, e5);
+        swap(array, e2, left);
+        swap(array, e4, right);
+
+        final long pivot1 = array[left];
+        final long pivot2 = array[right];
+
+        // Partition into [left + 1, less) < pivot1 <= [less, great] <= pivot2 < (great, right - 1].
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (array[k] < pivot1) {
+                swap(array, k, less++);
+            } else if (array[k] > pivot2) {
+                while (k < great && array[great] > pivot2) {
+                    --great;
+                }
+                swap(array, k, great--);
+
+                if (array[k] < pivot1) {
+                    swap(array, k, less++);
+                }
+            }
+        }
+
+        // Move the pivots into their final positions.
+        swap(array, less - 1, left);
+        swap(array, great + 1, right);
+
+        quickSort(array, left, less - 2, depth - 1);
+        quickSort(array, great + 2, right, depth - 1);
+
+        // If the pivots are equal, the middle part only contains values equal to them, so it's already sorted.
+        if (pivot1 != pivot2) {
+            quickSort(array, less, great, depth - 1);
+        }
+    }
+
+    private static void insertionSort(final long[] array, final int left, final int right) {
+        for (int i = left + 1; i <= right; ++i) {
+            final long value = array[i];
+
+            int j = i - 1;
+            while (j >= left && array[j] > value) {
+                array[j + 1] = array[j];
+                --j;
+            }
+
+            array[j + 1] = value;
+        }
+    }
+
+    private static void heapSort(final long[] array, final int left, final int right) {
+        final int length = right - left + 1;
+
+        for (int i = length / 2 - 1; i >= 0; --i) {
+            siftDown(array, left, i, length);
+        }
+
+        for (int end = length - 1; end > 0; --end) {
+            swap(array, left, left + end);
+            siftDown(array, left, 0, end);
+        }
+    }
+
+    private static void siftDown(final long[] array, final int offset, int index, final int length) {
+        final long value = array[offset + index];
+
+        int child;
+        while ((child = 2 * index + 1) < length) {
+            if (child + 1 < length && array[offset + child + 1] > array[offset + child]) {
+                ++child;
+            }
+            if (value >= array[offset + child]) {
+                break;
+            }
+
+            array[offset + index] = array[offset + child];
+            index = child;
+        }
+
+        array[offset + index] = value;
+    }
+
+    /**
+     * Sort the five samples at the given indices, using a sorting network of nine comparisons.
+     */
+    private static void sortSamples(
+            final long[] array,
+            final int e1,
+            final int e2,
+            final int e3,
+            final int e4,
+            final int e5
+    ) {
+        sortPair(array, e1, e2);
+        sortPair(array, e4, e5);
+        sortPair(array, e3, e5);
+        sortPair(array, e3, e4);
+        sortPair(array, e2, e5);
+        sortPair(array, e1, e4);
+        sortPair(array, e1, e3);
+        sortPair(array, e2, e4);
+        sortPair(array, e2, e3);
+    }
+
+    private static void sortPair(final long[] array, final int i, final int j) {
+        if (array[i] > array[j]) {
+            swap(array, i, j);
+        }
+    }
+
+    private static void swap(final long[] array, final int i, final int j) {
+        final long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Sort the range [left, right] of the given array.
+     * @param array The array of which the range should be sorted.
+     * @param left The start of the range (inclusive).
+     * @param right The end of the range (inclusive).
+     * @param depth The number of partitioning levels left before falling back to heap sort.
+     */
+    private static void quickSort(final double[] array, final int left, final int right, final int depth) {
+        final int length = right - left + 1;
+
+        if (length < INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, left, right);
+            return;
+        }
+
+        // Prevent quadratic behaviour on adversarial inputs, by switching to heap sort when recursing too deep.
+        if (depth == 0) {
+            heapSort(array, left, right);
+            return;
+        }
+
+        // Sort five evenly spaced samples, and use the second and fourth of them as the pivots, moving them to the
+        //  ends. Those split the range more evenly than two arbitrary values would.
+        final int seventh = (length >> 3) + (length >> 6) + 1;
+        final int e3 = (left + right) >>> 1;
+        final int e2 = e3 - seventh;
+        final int e1 = e2 - seventh;
+        final int e4 = e3 + seventh;
+        final int e5 = e4 + seventh;
+        sortSamples(array, e1, e2, e3, e4, e5);
+        swap(array, e2, left);
+        swap(array, e4, right);
+
+        final double pivot1 = array[left];
+        final double pivot2 = array[right];
+
+        // Partition into [left + 1, less) < pivot1 <= [less, great] <= pivot2 < (great, right - 1].
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; ++k) {
+            if (array[k] < pivot1) {
+                swap(array, k, less++);
+            } else if (array[k] > pivot2) {
+                while (k < great && array[great] > pivot2) {
+                    --great;
+                }
+                swap(array, k, great--);
+
+                if (array[k] < pivot1) {
+                    swap(array, k, less++);
+                }
+            }
+        }
+
+        // Move the pivots into their final positions.
+        swap(array, less - 1, left);
+        swap(array, great + 1, right);
+
+        quickSort(array, left, less - 2, depth - 1);
+        quickSort(array, great + 2, right, depth - 1);
+
+        // If the pivots are equal, the middle part only contains values equal to them, so it's already sorted.
+        if (pivot1 != pivot2) {
+            quickSort(array, less, great, depth - 1);
+        }
+    }
+
+    private static void insertionSort(final double[] array, final int left, final int right) {
+        for (int i = left + 1; i <= right; ++i) {
+            final double value = array[i];
+
+            int j = i - 1;
+            while (j >= left && array[j] > value) {
+                array[j + 1] = array[j];
+                --j;
+            }
+
+            array[j + 1] = value;
+        }
+    }
+
+    private static void heapSort(final double[] array, final int left, final int right) {
+        final int length = right - left + 1;
+
+        for (int i = length / 2 - 1; i >= 0; --i) {
+            siftDown(array, left, i, length);
+        }
+
+        for (int end = length - 1; end > 0; --end) {
+            swap(array, left, left + end);
+            siftDown(array, left, 0, end);
+        }
+    }
+
+    private static void siftDown(final double[] array, final int offset, int index, final int length) {
+        final double value = array[offset + index];
+
+        int child;
+        while ((child = 2 * index + 1) < length) {
+            if (child + 1 < length && array[offset + child + 1] > array[offset + child]) {
+                ++child;
+            }
+            if (value >= array[offset + child]) {
+                break;
+            }
+
+            array[offset + index] = array[offset + child];
+            index = child;
+        }
+
+        array[offset + index] = value;
+    }
+
+    /**
+     * Sort the five samples at the given indices, using a sorting network of nine comparisons.
+     */
+    private static void sortSamples(
+            final double[] array,
+            final int e1,
+            final int e2,
+            final int e3,
+            final int e4,
+            final int e5
+    ) {
+        sortPair(array, e1, e2);
+        sortPair(array, e4, e5);
+        sortPair(array, e3, e5);
+        sortPair(array, e3, e4);
+        sortPair(array, e2, e5);
+        sortPair(array, e1, e4);
+        sortPair(array, e1, e3);
+        sortPair(array, e2, e4);
+        sortPair(array, e2, e3);
+    }
+
+    private static void sortPair(final double[] array, final int i, final int j) {
+        if (array[i] > array[j]) {
+            swap(array, i, j);
+        }
+    }
+
+    private static void swap(final double[] array, final int i, final int j) {
+        final double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
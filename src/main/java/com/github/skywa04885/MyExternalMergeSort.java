@@ -0,0 +1,288 @@
+package com.github.skywa04885;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * My implementation of an external merge sort, which sorts files of records that do not fit in memory.
+ * <p>
+ * The input is read in chunks that fit in the memory budget, every chunk is sorted in memory by the given sorter,
+ *  and written to a temporary file as a sorted run. The runs are then merged k at a time, using a priority queue
+ *  holding the next record of every run. If there are more runs than can be merged at once, groups of runs are first
+ *  merged into longer runs, until few enough remain to merge them into the output.
+ * <p>
+ * Files contain the records back to back, as written by the serializer. Records with equal keys keep their original
+ *  order if the sorter is stable.
+ * @param <T> The type of records.
+ */
+public final class MyExternalMergeSort<T> {
+    /**
+     * The default maximum number of runs that are merged at once.
+     */
+    public static final int DEFAULT_FAN_IN = 64;
+
+    /**
+     * The size of the buffer of every file that is read or written.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MySorter sorter;
+    private final MyRecordSerializer<T> serializer;
+    private final Comparator<? super T> comparator;
+    private final int memoryBudget;
+    private final int fanIn;
+    private final Path temporaryDirectory;
+
+    /**
+     * Create an external merge sort that merges the default number of runs at once, and puts its temporary files in
+     *  the default temporary directory.
+     * @param sorter The sorter used to sort the chunks in memory.
+     * @param serializer The serializer used to read and write the records.
+     * @param comparator The comparator that determines the order of the records.
+     * @param memoryBudget The maximum number of records held in memory at once.
+     */
+    public MyExternalMergeSort(
+            final MySorter sorter,
+            final MyRecordSerializer<T> serializer,
+            final Comparator<? super T> comparator,
+            final int memoryBudget
+    ) {
+        this(sorter, serializer, comparator, memoryBudget, DEFAULT_FAN_IN,
+                Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Create an external merge sort.
+     * @param sorter The sorter used to sort the chunks in memory.
+     * @param serializer The serializer used to read and write the records.
+     * @param comparator The comparator that determines the order of the records.
+     * @param memoryBudget The maximum number of records held in memory at once.
+     * @param fanIn The maximum number of runs that are merged at once, each of which keeps a file open.
+     * @param temporaryDirectory The directory in which the runs are stored.
+     */
+    public MyExternalMergeSort(
+            final MySorter sorter,
+            final MyRecordSerializer<T> serializer,
+            final Comparator<? super T> comparator,
+            final int memoryBudget,
+            final int fanIn,
+            final Path temporaryDirectory
+    ) {
+        if (memoryBudget < 1) {
+            throw new IllegalArgumentException("Memory budget must be at least one record");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least two");
+        }
+
+        this.sorter = sorter;
+        this.serializer = serializer;
+        this.comparator = comparator;
+        this.memoryBudget = memoryBudget;
+        this.fanIn = fanIn;
+        this.temporaryDirectory = temporaryDirectory;
+    }
+
+    /**
+     * Sort the records in the input file, and write them to the output file.
+     * @param input The file containing the unsorted records.
+     * @param output The file to write the sorted records to, which is replaced if it exists.
+     * @throws IOException If reading, writing or creating any of the files failed.
+     */
+    public void sort(final Path input, final Path output) throws IOException {
+        final List<Path> temporaryFiles = new ArrayList<>();
+
+        try {
+            List<Path> runs = createRuns(input, temporaryFiles);
+
+            // Merge groups of runs into longer ones, until few enough remain to merge them into the output at once.
+            while (runs.size() > fanIn) {
+                final List<Path> mergedRuns = new ArrayList<>();
+
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    final List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                    final Path mergedRun = createTemporaryFile(temporaryFiles);
+
+                    merge(group, mergedRun);
+                    mergedRuns.add(mergedRun);
+
+                    for (final Path run : group) {
+                        Files.delete(run);
+                    }
+                }
+
+                runs = mergedRuns;
+            }
+
+            merge(runs, output);
+        } finally {
+            for (final Path temporaryFile : temporaryFiles) {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+    }
+
+    /**
+     * Read the input in chunks that fit in the memory budget, and write every chunk as a sorted run.
+     * @param input The file containing the unsorted records.
+     * @param temporaryFiles The list to register the created files in, so they can be cleaned up.
+     * @return The runs, in the order of the input.
+     * @throws IOException If reading the input or writing a run failed.
+     */
+    private List<Path> createRuns(final Path input, final List<Path> temporaryFiles) throws IOException {
+        final List<Path> runs = new ArrayList<>();
+
+        try (final RunReader<T> reader = new RunReader<>(input, serializer, 0)) {
+            @SuppressWarnings("unchecked")
+            final T[] chunk = (T[]) new Object[memoryBudget];
+
+            while (true) {
+                int count = 0;
+                while (count < chunk.length && reader.advance()) {
+                    chunk[count++] = reader.head;
+                }
+
+                if (count == 0) {
+                    break;
+                }
+
+                sorter.sortInPlace(chunk, 0, count, comparator);
+
+                final Path run = createTemporaryFile(temporaryFiles);
+                try (final DataOutputStream output = openOutput(run)) {
+                    for (int i = 0; i < count; ++i) {
+                        serializer.write(output, chunk[i]);
+                    }
+                }
+                runs.add(run);
+
+                if (count < chunk.length) {
+                    break;
+                }
+            }
+        }
+
+        return runs;
+    }
+
+    /**
+     * Merge the given sorted runs into the given output, taking the smallest next record of all the runs each time.
+     *  Equal records are taken from the earliest run first.
+     * @param runs The runs to merge.
+     * @param output The file to write the merged records to.
+     * @throws IOException If reading a run or writing the output failed.
+     */
+    private void merge(final List<Path> runs, final Path output) throws IOException {
+        final List<RunReader<T>> readers = new ArrayList<>(runs.size());
+
+        try (final DataOutputStream writer = openOutput(output)) {
+            final MyPriorityQueue<RunReader<T>> queue = MyPriorityQueue.orderedBy((a, b) -> {
+                final int comparison = comparator.compare(a.head, b.head);
+                return comparison != 0 ? comparison : Integer.compare(a.index, b.index);
+            });
+
+            for (int i = 0; i < runs.size(); ++i) {
+                final RunReader<T> reader = new RunReader<>(runs.get(i), serializer, i);
+                readers.add(reader);
+
+                if (reader.advance()) {
+                    queue.enqueue(reader);
+                }
+            }
+
+            // Take the run with the smallest next record, write the record, and put the run back if it has more.
+            while (!queue.isEmpty()) {
+                final RunReader<T> reader = queue.dequeue().orElseThrow();
+                serializer.write(writer, reader.head);
+
+                if (reader.advance()) {
+                    queue.enqueue(reader);
+                }
+            }
+        } finally {
+            for (final RunReader<T> reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Create a new temporary file, and register it so it can be cleaned up.
+     */
+    private Path createTemporaryFile(final List<Path> temporaryFiles) throws IOException {
+        final Path file = Files.createTempFile(temporaryDirectory, "run-", ".tmp");
+        temporaryFiles.add(file);
+        return file;
+    }
+
+    /**
+     * Open the given file for writing through a buffered channel, replacing it if it exists.
+     */
+    private static DataOutputStream openOutput(final Path file) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        return new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+    }
+
+    /**
+     * Reader of the records in a file, which keeps the last read record at hand.
+     * @param <T> The type of records.
+     */
+    private static final class RunReader<T> implements Closeable {
+        private final BufferedInputStream buffered;
+        private final DataInputStream input;
+        private final MyRecordSerializer<T> serializer;
+
+        /**
+         * The index of the run, used to keep equal records in the order of their runs.
+         */
+        private final int index;
+
+        /**
+         * The last read record.
+         */
+        private T head;
+
+        public RunReader(final Path file, final MyRecordSerializer<T> serializer, final int index) throws IOException {
+            this.buffered = new BufferedInputStream(Channels.newInputStream(FileChannel.open(file)), BUFFER_SIZE);
+            this.input = new DataInputStream(buffered);
+            this.serializer = serializer;
+            this.index = index;
+        }
+
+        /**
+         * Read the next record into the head, if there is one.
+         * @return Whether a record was read, false if the end of the file was reached.
+         * @throws IOException If the record could not be read.
+         */
+        public boolean advance() throws IOException {
+            // Peek at the next byte, to tell the end of the file apart from a truncated record.
+            buffered.mark(1);
+            if (buffered.read() == -1) {
+                head = null;
+                return false;
+            }
+            buffered.reset();
+
+            head = serializer.read(input);
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+}
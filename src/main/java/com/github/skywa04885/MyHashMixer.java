@@ -0,0 +1,60 @@
+package com.github.skywa04885;
+
+/**
+ * Hash functions shared by the open addressing hash tables, which index power-of-two sized arrays by masking and
+ *  therefore need every bit of the hash to depend on every bit of the key.
+ */
+final class MyHashMixer {
+    /**
+     * The golden ratio as a 32-bit fraction, multiplying by it spreads the bits of a key over the upper bits.
+     */
+    private static final int INT_PHI = 0x9E3779B9;
+
+    /**
+     * The golden ratio as a 64-bit fraction.
+     */
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The largest power of two that can be used as the capacity of an array.
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private MyHashMixer() {
+    }
+
+    /**
+     * Mix the bits of the given int hash.
+     * @param hash The hash to mix.
+     * @return The mixed hash.
+     */
+    static int mix(final int hash) {
+        final int h = hash * INT_PHI;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Mix the bits of the given long key down into an int hash.
+     * @param key The key to mix.
+     * @return The mixed hash.
+     */
+    static int mix(final long key) {
+        final long h = key * LONG_PHI;
+        return (int) (h ^ (h >>> 32) ^ (h >>> 16));
+    }
+
+    /**
+     * Calculate the smallest power of two that is at least the given capacity.
+     * @param capacity The requested capacity.
+     * @return The power of two capacity.
+     */
+    static int capacityFor(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        } else if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity cannot exceed " + MAX_CAPACITY);
+        }
+
+        return capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
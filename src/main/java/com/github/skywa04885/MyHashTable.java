@@ -81,8 +81,9 @@ public class MyHashTable<TKey, TValue> {
      * @param value The value to insert under the key.
      */
     public void insert(final TKey key, final TValue value) {
-        // Insert the key/ value pair into the nodes.
-        insert(key, value, nodes);
+        // Insert the key/ value pair into the nodes, if only the value of an existing key got replaced, the size
+        //  stays the same, hence no rehashing is needed either.
+        if (!insert(key, value, nodes)) return;
 
         // Increment the size to indicate the new insertion.
         ++size;
@@ -208,8 +209,9 @@ public class MyHashTable<TKey, TValue> {
      * @param nodes    The nodes in which the insertion needs to happen.
      * @param <TKey>   The type of key.
      * @param <TValue> The type of value.
+     * @return Whether a new node was created, false if the value of an existing key was replaced.
      */
-    private static <TKey, TValue> void insert(
+    private static <TKey, TValue> boolean insert(
             final TKey key,
             final TValue value,
             final Node<TKey, TValue>[] nodes
@@ -225,7 +227,7 @@ public class MyHashTable<TKey, TValue> {
         while (node != null) {
             if (node.getKey().equals(key)) {
                 node.setValue(value);
-                return;
+                return false;
             }
             node = node.getNext();
         }
@@ -235,6 +237,8 @@ public class MyHashTable<TKey, TValue> {
         final Node<TKey, TValue> newNode = new Node<>(key, value);
         newNode.setNext(nodes[hash]);
         nodes[hash] = newNode;
+
+        return true;
     }
 
     /**
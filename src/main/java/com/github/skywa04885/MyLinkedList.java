@@ -1,13 +1,44 @@
 package com.github.skywa04885;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * My implementation of a doubly linked list, which can also be used as a deque.
+ * <p>
+ * Values can be added and removed at both ends in constant time. Adding a value returns its node, which can be used
+ *  as a handle to remove the value in constant time later on, without searching for it. Getting a value by index
+ *  walks from whichever end of the list is closer.
+ * @param <T> The type of value to be stored in the list.
+ */
 public class MyLinkedList<T> implements MyList<T> {
-    private static class Node<T> {
+    /**
+     * A node of the list, which is handed out as the handle of its value.
+     * @param <T> The type of value in the node.
+     */
+    public static final class Node<T> {
+        private Node<T> previousNode;
         private Node<T> nextNode;
         private final T value;
 
-        public Node(final T value) {
+        /**
+         * The list the node is in, or null if it has been removed from it.
+         */
+        private MyLinkedList<T> list;
+
+        private Node(final MyLinkedList<T> list, final T value) {
+            this.list = list;
             this.value = value;
         }
+
+        /**
+         * Get the value of the node.
+         * @return The value of the node.
+         */
+        public T getValue() {
+            return value;
+        }
     }
 
     private Node<T> head;
@@ -49,9 +80,18 @@ public class MyLinkedList<T> implements MyList<T> {
             throw new IndexOutOfBoundsException("Index is out of bounds");
         }
 
-        Node<T> node = head;
-        for (int i = 0; i < index; ++i) {
-            node = node.nextNode;
+        // Walk from whichever end is closer to the index.
+        Node<T> node;
+        if (index < size / 2) {
+            node = head;
+            for (int i = 0; i < index; ++i) {
+                node = node.nextNode;
+            }
+        } else {
+            node = tail;
+            for (int i = size - 1; i > index; --i) {
+                node = node.previousNode;
+            }
         }
 
         return node.value;
@@ -67,25 +107,108 @@ public class MyLinkedList<T> implements MyList<T> {
 
     @Override
     public void add(final T value) {
+        addLast(value);
+    }
+
+    /**
+     * Add the given value to the front of the list.
+     * @param value The value to add.
+     * @return The node of the value, which can be used to remove it.
+     */
+    public Node<T> addFirst(final T value) {
+        final Node<T> node = new Node<>(this, value);
+
+        if (isEmpty()) {
+            assert tail == null && head == null : "If the list is empty, both head and tail must be null";
+            head = tail = node;
+        } else {
+            assert tail != null && head != null : "If the list is not empty, both head and tail must be non-null";
+            node.nextNode = head;
+            head.previousNode = node;
+            head = node;
+        }
+
+        ++size;
+
+        return node;
+    }
+
+    /**
+     * Add the given value to the back of the list.
+     * @param value The value to add.
+     * @return The node of the value, which can be used to remove it.
+     */
+    public Node<T> addLast(final T value) {
+        final Node<T> node = new Node<>(this, value);
+
         if (isEmpty()) {
             assert tail == null && head == null : "If the list is empty, both head and tail must be null";
-            head = tail = new Node<>(value);
+            head = tail = node;
         } else {
             assert tail != null && head != null : "If the list is not empty, both head and tail must be non-null";
-            tail.nextNode = new Node<>(value);
-            tail = tail.nextNode;
+            node.previousNode = tail;
+            tail.nextNode = node;
+            tail = node;
         }
 
         ++size;
+
+        return node;
+    }
+
+    /**
+     * Get the value at the front of the list, without removing it.
+     * @return The value at the front, if there.
+     */
+    public Optional<T> peekFirst() {
+        return head == null ? Optional.empty() : Optional.of(head.value);
+    }
+
+    /**
+     * Get the value at the back of the list, without removing it.
+     * @return The value at the back, if there.
+     */
+    public Optional<T> peekLast() {
+        return tail == null ? Optional.empty() : Optional.of(tail.value);
+    }
+
+    /**
+     * Get the value at the front of the list, without removing it.
+     * @return The value at the front, if there.
+     */
+    public Optional<T> peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Remove the value at the front of the list.
+     * @return The removed value, if there.
+     */
+    public Optional<T> pollFirst() {
+        if (head == null) return Optional.empty();
+
+        final T value = head.value;
+        unlink(head);
+        return Optional.of(value);
+    }
+
+    /**
+     * Remove the value at the back of the list.
+     * @return The removed value, if there.
+     */
+    public Optional<T> pollLast() {
+        if (tail == null) return Optional.empty();
+
+        final T value = tail.value;
+        unlink(tail);
+        return Optional.of(value);
     }
 
     @Override
     public boolean remove(final T value) {
-        Node<T> previous = null;
         Node<T> current = head;
 
         while (current != null && !current.value.equals(value)) {
-            previous = current;
             current = current.nextNode;
         }
 
@@ -93,25 +216,71 @@ public class MyLinkedList<T> implements MyList<T> {
             return false;
         }
 
-        if (!current.value.equals(value)) {
-            return false;
-        }
+        unlink(current);
 
-        if (previous != null) {
-            previous.nextNode = current.nextNode;
+        return true;
+    }
+
+    /**
+     * Remove the value of the given node from the list, without searching for it.
+     * @param node The node of the value, as returned when the value was added.
+     * @return The removed value.
+     */
+    public T remove(final Node<T> node) {
+        if (node.list != this) {
+            throw new IllegalArgumentException("Node does not belong to a value in the list");
         }
 
-        if (head == current) {
-            head = current.nextNode;
+        unlink(node);
+
+        return node.value;
+    }
+
+    /**
+     * Unlink the given node from its neighbours, and the list from it.
+     * @param node The node to unlink.
+     */
+    private void unlink(final Node<T> node) {
+        if (node.previousNode != null) {
+            node.previousNode.nextNode = node.nextNode;
+        } else {
+            head = node.nextNode;
         }
 
-        if (tail == current) {
-            tail = previous;
+        if (node.nextNode != null) {
+            node.nextNode.previousNode = node.previousNode;
+        } else {
+            tail = node.previousNode;
         }
 
+        node.previousNode = null;
+        node.nextNode = null;
+        node.list = null;
+
         --size;
+    }
 
-        return true;
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node<T> node = head;
+
+            @Override
+            public boolean hasNext() {
+                return node != null;
+            }
+
+            @Override
+            public T next() {
+                if (node == null) {
+                    throw new NoSuchElementException();
+                }
+
+                final T value = node.value;
+                node = node.nextNode;
+                return value;
+            }
+        };
     }
 
     @Override
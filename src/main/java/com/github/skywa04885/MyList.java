@@ -1,10 +1,19 @@
 package com.github.skywa04885;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Generic interface for a custom list implementation for school.
+ * <p>
+ * Lists are iterable, so they can be walked in linear time whatever their implementation (unlike a loop over get,
+ *  which takes quadratic time for a linked list), and can be streamed sequentially or in parallel.
  * @param <T> The type of value to be stored in the list.
  */
-public interface MyList<T> {
+public interface MyList<T> extends Iterable<T> {
     /**
      * Check if the list is empty.
      * @return Whether the list is empty or not.
@@ -64,4 +73,37 @@ public interface MyList<T> {
      * @return The array containing all the values from the list.
      */
     T[] toArray(final T[] x);
+
+    /**
+     * Get an iterator over the values of the list, in order.
+     * @return The iterator.
+     */
+    @Override
+    Iterator<T> iterator();
+
+    /**
+     * Get a spliterator over the values of the list, which knows the size of the list. By default it splits off
+     *  batches of the iterator into arrays, implementations with random access should split evenly instead.
+     * @return The spliterator.
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Get a sequential stream of the values of the list.
+     * @return The stream.
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Get a parallel stream of the values of the list, which is processed by the common fork-join pool.
+     * @return The stream.
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
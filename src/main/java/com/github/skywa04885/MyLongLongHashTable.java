@@ -0,0 +1,237 @@
+package com.github.skywa04885;
+
+import java.util.OptionalLong;
+
+/**
+ * My implementation of an open addressing hash table with unboxed long keys and values, using linear probing.
+ * <p>
+ * The keys and values are stored in two parallel long[] arrays, so neither insertions nor lookups allocate. The
+ *  key zero marks an empty slot, hence an entry with key zero is stored outside the arrays.
+ */
+public class MyLongLongHashTable {
+    /**
+     * The maximum load factor, beyond which the table grows.
+     */
+    private static final double MAX_LOAD_FACTOR = 0.5;
+
+    /**
+     * The key that marks an empty slot.
+     */
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    /**
+     * Create a new hash table with the default initial capacity.
+     */
+    public MyLongLongHashTable() {
+        this(16);
+    }
+
+    /**
+     * Create a new hash table with the given initial capacity (rounded up to a power of two).
+     * @param capacity The initial number of slots.
+     */
+    public MyLongLongHashTable(final int capacity) {
+        allocate(MyHashMixer.capacityFor(capacity));
+        this.size = 0;
+    }
+
+    /**
+     * Get the number of entries in the hash table.
+     * @return The number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the load factor of the hash table.
+     * @return The load factor of the hash table.
+     */
+    public double loadFactor() {
+        return (double) size / (double) keys.length;
+    }
+
+    /**
+     * Insert the given key/ value pair into the hash table.
+     * @param key   The key to insert the value under.
+     * @param value The value to insert under the key.
+     */
+    public void insert(final long key, final long value) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                ++size;
+            }
+            zeroValue = value;
+            return;
+        }
+
+        // Probe from the home slot of the key until either the key itself or an empty slot is found.
+        int slot = slotOf(key);
+        long current;
+        while ((current = keys[slot]) != EMPTY) {
+            if (current == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        // Since the key was not present yet, claim the empty slot.
+        keys[slot] = key;
+        values[slot] = value;
+        ++size;
+
+        // Grow the table if it got too full.
+        if (size > keys.length * MAX_LOAD_FACTOR) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Get the value associated with the given key.
+     * @param key The key to get the value for.
+     * @return The optional found value.
+     */
+    public OptionalLong get(final long key) {
+        if (key == EMPTY) {
+            return hasZeroKey ? OptionalLong.of(zeroValue) : OptionalLong.empty();
+        }
+
+        final int slot = find(key);
+        return slot == -1 ? OptionalLong.empty() : OptionalLong.of(values[slot]);
+    }
+
+    /**
+     * Get the value associated with the given key, without allocating an optional.
+     * @param key The key to get the value for.
+     * @param defaultValue The value to return if the key is not in the hash table.
+     * @return The found value, or the default value.
+     */
+    public long getOrDefault(final long key, final long defaultValue) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+
+        final int slot = find(key);
+        return slot == -1 ? defaultValue : values[slot];
+    }
+
+    /**
+     * Check if the hash table contains the given key.
+     * @param key The key to look for.
+     * @return Whether the key is in the hash table.
+     */
+    public boolean contains(final long key) {
+        return key == EMPTY ? hasZeroKey : find(key) != -1;
+    }
+
+    /**
+     * Delete the entry with the given key from the hash table.
+     * @param key The key that should be deleted.
+     * @return The value associated with the key, if it was deleted.
+     */
+    public OptionalLong delete(final long key) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) return OptionalLong.empty();
+
+            hasZeroKey = false;
+            --size;
+            return OptionalLong.of(zeroValue);
+        }
+
+        final int slot = find(key);
+        if (slot == -1) return OptionalLong.empty();
+
+        final long value = values[slot];
+        removeAt(slot);
+
+        return OptionalLong.of(value);
+    }
+
+    /**
+     * Find the slot containing the given (non-zero) key.
+     * @param key The key to find.
+     * @return The slot of the key, or -1 if not present.
+     */
+    private int find(final long key) {
+        int slot = slotOf(key);
+        long current;
+        while ((current = keys[slot]) != EMPTY) {
+            if (current == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Remove the entry in the given slot, shifting back the entries in the probe sequence behind it so no tombstone
+     *  is needed and every remaining key stays reachable from its home slot.
+     * @param slot The slot to empty.
+     */
+    private void removeAt(final int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        long current;
+
+        while ((current = keys[next]) != EMPTY) {
+            // The entry may fill the gap if its home slot is not cyclically in between the gap and itself.
+            final int home = slotOf(current);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = current;
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        keys[gap] = EMPTY;
+        values[gap] = 0L;
+        --size;
+    }
+
+    /**
+     * Move all the entries into new arrays with the given capacity.
+     * @param capacity The new capacity (power of two).
+     */
+    private void rehash(final int capacity) {
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; ++i) {
+            final long key = oldKeys[i];
+            if (key == EMPTY) continue;
+
+            int slot = slotOf(key);
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    private int slotOf(final long key) {
+        return MyHashMixer.mix(key) & mask;
+    }
+}
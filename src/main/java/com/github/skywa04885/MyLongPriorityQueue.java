@@ -0,0 +1,466 @@
+package com.github.skywa04885;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * My own implementation of the priority queue with long priorities, such as timestamps, otherwise it's the same as
+ *  MyPriorityQueue.
+ * <p>
+ * Every enqueued value gets a handle, which can be used to change its priority or remove it while it's still in the
+ *  queue. A handle stays valid until its value leaves the queue, after which it may be reused for another value.
+ * <p>
+ * Values with equal priorities leave the queue in no particular order, unless the queue has a comparator, which then
+ *  decides between them. For a queue ordered by a comparator alone, see MyPriorityQueue.orderedBy.
+ * <p>
+ * The values are stored in a d-ary heap, in which every node has up to 2, 4 or 8 children. A higher arity makes the
+ *  tree shallower, so enqueueing and changing priorities compare against fewer parents, while dequeueing compares
+ *  more children per level but they're next to each other in memory.
+ * <p>
+ * The heap is stored as parallel arrays of priorities, values and handles instead of an array of nodes, so comparing
+ *  priorities only touches the long[] of priorities, and enqueueing allocates nothing once the arrays are large
+ *  enough.
+ * @param <T> The type of values present in the priority queue.
+ */
+public class MyLongPriorityQueue<T> {
+    /**
+     * The arity of the heap of a queue created without one.
+     */
+    public static final int DEFAULT_ARITY = 4;
+
+    /**
+     * The comparator deciding between values with equal priorities, or null if they are not ordered.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * The base two logarithm of the arity, so the parent and child indices are computed with shifts.
+     */
+    private final int arityShift;
+
+    /**
+     * The priorities, values and handles of the nodes in the heap, the first size entries of each are in use.
+     */
+    private long[] priorities = new long[0];
+    private Object[] values = new Object[0];
+    private int[] handles = new int[0];
+    private int size = 0;
+
+    /**
+     * The index in the heap of the node belonging to each handle, or -1 if the handle is not in use.
+     */
+    private int[] positions = new int[0];
+
+    /**
+     * The stack of handles that were released and can be reused.
+     */
+    private int[] freeHandles = new int[0];
+    private int freeHandleCount = 0;
+
+    /**
+     * The number of handles that have ever been handed out (the next never-used handle).
+     */
+    private int handleCount = 0;
+
+    /**
+     * Create a new queue, in which values with equal priorities are not ordered.
+     */
+    public MyLongPriorityQueue() {
+        this(DEFAULT_ARITY, null);
+    }
+
+    /**
+     * Create a new queue, in which values with equal priorities are ordered by the given comparator.
+     * @param comparator The comparator deciding between values with equal priorities.
+     */
+    public MyLongPriorityQueue(final Comparator<? super T> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * Create a new queue with a heap of the given arity, in which values with equal priorities are not ordered.
+     * @param arity The number of children of every node in the heap, either 2, 4 or 8.
+     */
+    public MyLongPriorityQueue(final int arity) {
+        this(arity, null);
+    }
+
+    /**
+     * Create a new queue with a heap of the given arity, in which values with equal priorities are ordered by the
+     *  given comparator.
+     * @param arity The number of children of every node in the heap, either 2, 4 or 8.
+     * @param comparator The comparator deciding between values with equal priorities.
+     */
+    public MyLongPriorityQueue(final int arity, final Comparator<? super T> comparator) {
+        if (arity != 2 && arity != 4 && arity != 8) {
+            throw new IllegalArgumentException("Arity must be 2, 4 or 8");
+        }
+
+        this.arityShift = Integer.numberOfTrailingZeros(arity);
+        this.comparator = comparator;
+    }
+
+    /**
+     * Get the number of children of every node in the heap.
+     * @return The arity of the heap.
+     */
+    public int getArity() {
+        return 1 << arityShift;
+    }
+
+    /**
+     * Check if the queue is empty.
+     * @return Whether the queue is empty or not.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get the number of values in the queue.
+     * @return The number of values in the queue.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Make sure the queue can hold at least the given number of values without growing its arrays.
+     * @param capacity The number of values the queue should be able to hold.
+     */
+    public void ensureCapacity(final int capacity) {
+        if (capacity > priorities.length) {
+            priorities = Arrays.copyOf(priorities, capacity);
+            values = Arrays.copyOf(values, capacity);
+            handles = Arrays.copyOf(handles, capacity);
+        }
+    }
+
+    /**
+     * Enqueue the given value onto the queue assigned the given priority.
+     * @param priority The priority assigned to the enqueued value.
+     * @param value The value to enqueue with the given priority.
+     * @return The handle of the enqueued value.
+     */
+    public int enqueue(final long priority, final T value) {
+        if (size == priorities.length) {
+            ensureCapacity(Math.max(16, priorities.length * 2));
+        }
+
+        // Put the node at the end of the heap, which is where the shifting up starts from.
+        final int handle = acquireHandle();
+        final int nodeIndex = size++;
+        set(nodeIndex, priority, value, handle);
+
+        // Begin shifting up of the node based on its priority.
+        shiftUp(nodeIndex);
+
+        return handle;
+    }
+
+    /**
+     * Check if the value with the given handle is still in the queue.
+     * @param handle The handle of the value.
+     * @return Whether the value is still in the queue.
+     */
+    public boolean contains(final int handle) {
+        return handle >= 0 && handle < handleCount && positions[handle] != -1;
+    }
+
+    /**
+     * Get the priority of the value with the given handle.
+     * @param handle The handle of the value.
+     * @return The priority of the value.
+     */
+    public long getPriority(final int handle) {
+        return priorities[getPosition(handle)];
+    }
+
+    /**
+     * Lower the priority of the value with the given handle, moving it towards the front of the queue.
+     * @param handle The handle of the value.
+     * @param priority The new priority, which may not be higher than the current one.
+     */
+    public void decreaseKey(final int handle, final long priority) {
+        final int nodeIndex = getPosition(handle);
+
+        if (priority > priorities[nodeIndex]) {
+            throw new IllegalArgumentException("New priority cannot be higher than the current priority");
+        }
+
+        priorities[nodeIndex] = priority;
+        shiftUp(nodeIndex);
+    }
+
+    /**
+     * Change the priority of the value with the given handle, moving it in whichever direction is needed.
+     * @param handle The handle of the value.
+     * @param priority The new priority of the value.
+     */
+    public void updatePriority(final int handle, final long priority) {
+        final int nodeIndex = getPosition(handle);
+        final long oldPriority = priorities[nodeIndex];
+
+        priorities[nodeIndex] = priority;
+
+        // A lower priority can only violate the heap property with the parent, a higher one only with the children.
+        if (priority < oldPriority) {
+            shiftUp(nodeIndex);
+        } else if (priority > oldPriority) {
+            shiftDown(nodeIndex);
+        }
+    }
+
+    /**
+     * Remove the value with the given handle from the queue.
+     * @param handle The handle of the value.
+     * @return The removed value.
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(final int handle) {
+        final int nodeIndex = getPosition(handle);
+        final T value = (T) values[nodeIndex];
+
+        // Take the last node out of the heap, and if the removed node wasn't the last one, put it in its place.
+        final int lastIndex = --size;
+        if (nodeIndex != lastIndex) {
+            move(lastIndex, nodeIndex);
+
+            // The moved node might either be too small for its new parent, or too large for its new children.
+            if (nodeIndex > 0 && compare(nodeIndex, getParentIndex(nodeIndex)) < 0) {
+                shiftUp(nodeIndex);
+            } else {
+                shiftDown(nodeIndex);
+            }
+        }
+
+        values[lastIndex] = null;
+        releaseHandle(handle);
+
+        return value;
+    }
+
+    /**
+     * Perform the shift up operation on the node with the given index.
+     * @param nodeIndex The index of the node that should be shifted up.
+     */
+    private void shiftUp(final int nodeIndex) {
+        final long priority = priorities[nodeIndex];
+        final Object value = values[nodeIndex];
+        final int handle = handles[nodeIndex];
+
+        // Instead of swapping the node with every parent it passes, move those parents down into the hole it leaves
+        //  behind, and only put the node in place once it's found.
+        int index = nodeIndex;
+        while (index > 0) {
+            final int parentIndex = getParentIndex(index);
+
+            // If the node doesn't come before its parent, then it belongs where the hole is right now.
+            if (compare(priority, value, parentIndex) >= 0) break;
+
+            move(parentIndex, index);
+            index = parentIndex;
+        }
+
+        set(index, priority, value, handle);
+    }
+
+    /**
+     * Get the element at the front of the priority queue, without dequeuing it.
+     * @return The element at the front, if there.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<T> peek() {
+        if (size == 0) return Optional.empty();
+
+        return Optional.of((T) values[0]);
+    }
+
+    /**
+     * Dequeues an element from the priority queue.
+     * @return The dequeued element, if there.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<T> dequeue() {
+        // If the queue is empty, return an empty optional.
+        if (size == 0) return Optional.empty();
+
+        // Get the root node and take the last node out of the heap.
+        final T value = (T) values[0];
+        final int handle = handles[0];
+        final int lastIndex = --size;
+
+        // Make the last node the new root and shift it down, if the tree is not empty.
+        if (lastIndex > 0) {
+            move(lastIndex, 0);
+            shiftDown(0);
+        }
+
+        values[lastIndex] = null;
+
+        // The handle of the root node is no longer in use.
+        releaseHandle(handle);
+
+        // Return the value of the root node, since it's the dequeued element.
+        return Optional.of(value);
+    }
+
+    /**
+     * Perform the shift down operation on the node with the given index.
+     * @param nodeIndex The index of the node that should be shifted down.
+     */
+    private void shiftDown(final int nodeIndex) {
+        final long priority = priorities[nodeIndex];
+        final Object value = values[nodeIndex];
+        final int handle = handles[nodeIndex];
+
+        // The parent of the last node is the last node with any children, computing it up front also keeps the child
+        //  indices from overflowing.
+        final int lastParentIndex = getParentIndex(size - 1);
+
+        // Like shifting up, move the children up into the hole the node leaves behind, instead of swapping.
+        int index = nodeIndex;
+        while (index <= lastParentIndex) {
+            // Find the child that should come first, only the last parent can have fewer children than the arity.
+            final int firstChildIndex = getFirstChildIndex(index);
+            final int endChildIndex = Math.min(firstChildIndex + getArity(), size);
+
+            int childIndex = firstChildIndex;
+            for (int i = firstChildIndex + 1; i < endChildIndex; ++i) {
+                if (compare(i, childIndex) < 0) {
+                    childIndex = i;
+                }
+            }
+
+            // If the node doesn't come after the first child, then it belongs where the hole is right now.
+            if (compare(priority, value, childIndex) <= 0) break;
+
+            move(childIndex, index);
+            index = childIndex;
+        }
+
+        set(index, priority, value, handle);
+    }
+
+    /**
+     * Compare the given priority and value with the node at the given index of the heap. The values are only looked
+     *  at if the priorities are equal and the queue has a comparator.
+     * @param priority The priority of the first node.
+     * @param value The value of the first node.
+     * @param index The index of the second node.
+     * @return A negative number, zero, or a positive number if the first node should come before, at the same
+     *  position, or after the second node.
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(final long priority, final Object value, final int index) {
+        final int comparison = Long.compare(priority, priorities[index]);
+        if (comparison != 0 || comparator == null) {
+            return comparison;
+        }
+
+        return comparator.compare((T) value, (T) values[index]);
+    }
+
+    /**
+     * Compare the nodes at the given indices of the heap, in the same way.
+     * @param index The index of the first node.
+     * @param otherIndex The index of the second node.
+     * @return A negative number, zero, or a positive number if the first node should come before, at the same
+     *  position, or after the second node.
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(final int index, final int otherIndex) {
+        final int comparison = Long.compare(priorities[index], priorities[otherIndex]);
+        if (comparison != 0 || comparator == null) {
+            return comparison;
+        }
+
+        return comparator.compare((T) values[index], (T) values[otherIndex]);
+    }
+
+    /**
+     * Put the given node at the given index of the heap, keeping the position index up to date.
+     * @param index The index to put the node at.
+     * @param priority The priority of the node.
+     * @param value The value of the node.
+     * @param handle The handle of the node.
+     */
+    private void set(final int index, final long priority, final Object value, final int handle) {
+        priorities[index] = priority;
+        values[index] = value;
+        handles[index] = handle;
+        positions[handle] = index;
+    }
+
+    /**
+     * Move the node at the given index to another index of the heap, keeping the position index up to date.
+     * @param from The index of the node to move.
+     * @param to The index to move the node to.
+     */
+    private void move(final int from, final int to) {
+        set(to, priorities[from], values[from], handles[from]);
+    }
+
+    /**
+     * Get the index in the heap of the node with the given handle.
+     * @param handle The handle of the node.
+     * @return The index of the node.
+     */
+    private int getPosition(final int handle) {
+        if (!contains(handle)) {
+            throw new IllegalArgumentException("Handle does not belong to a value in the queue");
+        }
+
+        return positions[handle];
+    }
+
+    /**
+     * Acquire a handle for a new value, reusing a released one if possible.
+     * @return The acquired handle.
+     */
+    private int acquireHandle() {
+        if (freeHandleCount > 0) {
+            return freeHandles[--freeHandleCount];
+        }
+
+        // Grow the position index if all the handles are in use.
+        if (handleCount == positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(16, positions.length * 2));
+        }
+
+        return handleCount++;
+    }
+
+    /**
+     * Release the given handle so it can be reused.
+     * @param handle The handle to release.
+     */
+    private void releaseHandle(final int handle) {
+        positions[handle] = -1;
+
+        if (freeHandleCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, Math.max(16, freeHandles.length * 2));
+        }
+
+        freeHandles[freeHandleCount++] = handle;
+    }
+
+    /**
+     * Calculate the index of the parent node that has the given index.
+     * @param index The index of the node to get the parent from.
+     * @return The index of the parent.
+     */
+    private int getParentIndex(final int index) {
+        return (index - 1) >> arityShift;
+    }
+
+    /**
+     * Calculate the index of the first child of the node at the given index, the others follow it.
+     * @param index The index of the node to find the first child for.
+     * @return The index of the first child.
+     */
+    private int getFirstChildIndex(final int index) {
+        return (index << arityShift) + 1;
+    }
+}
@@ -1,6 +1,8 @@
 package com.github.skywa04885;
 
-import java.util.Arrays;
+import java.lang.reflect.Array;
+import java.util.Comparator;
+import java.util.Objects;
 
 /**
  * My implementation of the merge sort algorithm.
@@ -16,24 +18,47 @@ public final class MyMergeSort implements MySorter {
     }
 
     /**
-     * Sort the given unsorted array using merge sort.
-     * @param unsorted The array that should be sorted.
-     * @return A sorted copy of the unsorted array.
-     * @param <T> The type of values in the array that should be sorted.
+     * Sort the range [from, to) of the given array in place using merge sort.
+     * <p>
+     * Only a single auxiliary buffer of half the range is allocated up front. Before every merge, the left half is
+     *  moved into the buffer, and merged back into the array together with the right half, so no temporary arrays
+     *  are needed for the individual merges.
+     * @param array The array of which the range should be sorted.
+     * @param from The start of the range (inclusive).
+     * @param to The end of the range (exclusive).
+     * @param comparator The comparator that determines the order of the values.
+     * @param <T> The type of values in the array.
      */
     @Override
-    public <T extends Comparable<T>> T[] sort(final T[] unsorted) {
-        final T[] array = Arrays.copyOf(unsorted, unsorted.length);
+    public <T> void sortInPlace(final T[] array, final int from, final int to, final Comparator<? super T> comparator) {
+        Objects.checkFromToIndex(from, to, array.length);
 
-        mergeSort(array, 0, array.length - 1);
+        if (to - from < 2) {
+            return;
+        }
+
+        // The buffer only holds left halves moved into it before a merge, so it starts out empty.
+        @SuppressWarnings("unchecked")
+        final T[] buffer = (T[]) Array.newInstance(array.getClass().getComponentType(), (to - from + 1) / 2);
 
-        return array;
+        mergeSort(array, buffer, from, to - 1, comparator);
     }
 
-    private <T extends Comparable<T>> void mergeSort(
+    /**
+     * Sort the range [left, right] of the array.
+     * @param array The array of which the range should be sorted.
+     * @param buffer The buffer that can hold at least the left half of the range.
+     * @param left The start of the range (inclusive).
+     * @param right The end of the range (inclusive).
+     * @param comparator The comparator that determines the order of the values.
+     * @param <T> The type of values in the arrays.
+     */
+    private <T> void mergeSort(
             final T[] array,
+            final T[] buffer,
             final int left,
-            final int right
+            final int right,
+            final Comparator<? super T> comparator
     ) {
         if (left >= right) {
             return;
@@ -41,40 +66,42 @@ public final class MyMergeSort implements MySorter {
 
         final int mid = (left + right) >>> 1;
 
-        mergeSort(array, left, mid);
-        mergeSort(array, mid + 1, right);
+        mergeSort(array, buffer, left, mid, comparator);
+        mergeSort(array, buffer, mid + 1, right, comparator);
 
-        merge(array, left, mid, right);
+        // If the halves are already in order, there's nothing to merge.
+        if (comparator.compare(array[mid], array[mid + 1]) <= 0) {
+            return;
+        }
+
+        merge(array, buffer, left, mid, right, comparator);
     }
 
-    private <T extends Comparable<T>> void merge(
+    private <T> void merge(
             final T[] array,
+            final T[] buffer,
             final int left,
             final int mid,
-            final int right
+            final int right,
+            final Comparator<? super T> comparator
     ) {
-        final int leftSize = mid - left + 1;
-        final int rightSize = right - mid;
-
-        final T[] leftArr = Arrays.copyOfRange(array, left, mid + 1);
-        final T[] rightArr = Arrays.copyOfRange(array, mid + 1, right + 1);
+        // Move the left half out of the way, the merged values never overtake the unmerged part of the right half.
+        final int leftLength = mid - left + 1;
+        System.arraycopy(array, left, buffer, 0, leftLength);
 
-        int i = 0, j = 0, k = left;
+        int i = 0, j = mid + 1, k = left;
 
-        while (i < leftSize && j < rightSize) {
-            if (leftArr[i].compareTo(rightArr[j]) <= 0) {
-                array[k++] = leftArr[i++];
+        while (i < leftLength && j <= right) {
+            if (comparator.compare(buffer[i], array[j]) <= 0) {
+                array[k++] = buffer[i++];
             } else {
-                array[k++] = rightArr[j++];
+                array[k++] = array[j++];
             }
         }
 
-        while (i < leftSize) {
-            array[k++] = leftArr[i++];
-        }
-
-        while (j < rightSize) {
-            array[k++] = rightArr[j++];
+        // Whatever remains of the right half is already in place.
+        while (i < leftLength) {
+            array[k++] = buffer[i++];
         }
     }
 }
@@ -0,0 +1,145 @@
+package com.github.skywa04885;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * My implementation of a bounded lock-free queue for multiple producer threads and a single consumer thread.
+ * <p>
+ * The values are stored in a ring buffer with a power-of-two capacity. A producer claims a slot by moving the tail
+ *  forward with a compare-and-set, and then releases its value into the slot. Since a producer can be interrupted
+ *  between claiming and filling its slot, the consumer tells filled slots apart by their value not being null, and
+ *  empties every slot it takes. The counters are padded to cache lines of their own, and the producers cache the last
+ *  value they read of the head, so they only read it again when the cached value says the queue is full.
+ * @param <T> The type of values in the queue.
+ */
+public class MyMpscArrayQueue<T> implements MyConcurrentQueue<T> {
+    private final AtomicReferenceArray<T> buffer;
+    private final int mask;
+
+    /**
+     * The sequence number of the next value to poll, owned by the consumer.
+     */
+    private final MyPaddedSequence head = new MyPaddedSequence(0);
+
+    /**
+     * The sequence number of the next slot to claim, with a cache of the head shared by the producers.
+     */
+    private final MyPaddedSequence tail = new MyPaddedSequence(0);
+
+    /**
+     * Create a queue that can hold the given number of values.
+     * @param capacity The capacity, which is rounded up to a power of two.
+     */
+    public MyMpscArrayQueue(final int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between one and 2^30");
+        }
+
+        this.buffer = new AtomicReferenceArray<>(Math.max(1, Integer.highestOneBit(capacity - 1) << 1));
+        this.mask = buffer.length() - 1;
+    }
+
+    /**
+     * Get the number of values the queue can hold.
+     * @return The capacity of the queue.
+     */
+    public int capacity() {
+        return buffer.length();
+    }
+
+    @Override
+    public boolean offer(final T value) {
+        Objects.requireNonNull(value);
+
+        final int capacity = buffer.length();
+
+        long sequence;
+        do {
+            sequence = tail.getAcquire();
+
+            if (sequence - tail.cache >= capacity) {
+                // The cached head says the queue is full, check whether the consumer has moved on since. Racing
+                //  producers may write an older head, which only makes the next check read it again.
+                final long headSequence = head.getAcquire();
+                tail.cache = headSequence;
+                if (sequence - headSequence >= capacity) {
+                    return false;
+                }
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        buffer.setRelease((int) sequence & mask, value);
+
+        return true;
+    }
+
+    @Override
+    public Optional<T> poll() {
+        final long sequence = head.value;
+        final int index = (int) sequence & mask;
+
+        T value = buffer.getAcquire(index);
+        if (value == null) {
+            if (sequence == tail.getAcquire()) {
+                return Optional.empty();
+            }
+
+            // A producer has claimed the slot but not filled it yet, which it's about to do, unless it has been
+            //  descheduled in between, so give it the chance to run.
+            do {
+                Thread.yield();
+                value = buffer.getAcquire(index);
+            } while (value == null);
+        }
+
+        buffer.lazySet(index, null);
+        head.setRelease(sequence + 1);
+
+        return Optional.of(value);
+    }
+
+    @Override
+    public int drain(final Consumer<? super T> consumer, final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+
+        final long sequence = head.value;
+
+        int count = 0;
+        try {
+            // Stop at the first slot that is not filled, even if it has been claimed already.
+            while (count < limit) {
+                final int index = (int) (sequence + count) & mask;
+                final T value = buffer.getAcquire(index);
+                if (value == null) {
+                    break;
+                }
+
+                buffer.lazySet(index, null);
+                ++count;
+                consumer.accept(value);
+            }
+        } finally {
+            // Release all the slots at once.
+            head.setRelease(sequence + count);
+        }
+
+        return count;
+    }
+
+    @Override
+    public int size() {
+        // Read the head first, so the tail can't be behind it.
+        final long headSequence = head.getAcquire();
+        return (int) Math.min(tail.getAcquire() - headSequence, buffer.length());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.skywa04885;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * My implementation of an unbounded lock-free queue for multiple producer threads and a single consumer thread,
+ *  backed by a singly linked list.
+ * <p>
+ * A producer appends its node by swapping it in as the new tail, and then links the previous tail to it. The swap
+ *  always succeeds, so producers never retry, unlike with a compare-and-set. The consumer walks the list from a dummy
+ *  head node; the node holding the value it takes becomes the next dummy. Since a producer can be interrupted
+ *  between the swap and the link, the consumer waits for the link if the tail shows there's a node after the head.
+ * @param <T> The type of values in the queue.
+ */
+public class MyMpscLinkedQueue<T> implements MyConcurrentQueue<T> {
+    /**
+     * A node in the queue.
+     * @param <T> The type of value in the node.
+     */
+    private static final class Node<T> {
+        private T value;
+        private volatile Node<T> next;
+
+        public Node(final T value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * The dummy node before the next value to poll, owned by the consumer.
+     */
+    private Node<T> head;
+
+    /**
+     * The last node in the queue, which the producers swap.
+     */
+    private final AtomicReference<Node<T>> tail;
+
+    public MyMpscLinkedQueue() {
+        this.head = new Node<>(null);
+        this.tail = new AtomicReference<>(head);
+    }
+
+    /**
+     * Add the given value to the back of the queue, which always succeeds since the queue is unbounded.
+     * @param value The value to add.
+     * @return Always true.
+     */
+    @Override
+    public boolean offer(final T value) {
+        Objects.requireNonNull(value);
+
+        final Node<T> node = new Node<>(value);
+        final Node<T> previous = tail.getAndSet(node);
+        previous.next = node;
+
+        return true;
+    }
+
+    @Override
+    public Optional<T> poll() {
+        final Node<T> next = nextNode(true);
+        if (next == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(take(next));
+    }
+
+    @Override
+    public int drain(final Consumer<? super T> consumer, final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+
+        int count = 0;
+
+        // Stop at the first node that is not linked yet, even if it has been appended already.
+        while (count < limit) {
+            final Node<T> next = nextNode(false);
+            if (next == null) {
+                break;
+            }
+
+            ++count;
+            consumer.accept(take(next));
+        }
+
+        return count;
+    }
+
+    /**
+     * Get the node after the head.
+     * @param wait Whether to wait for the node if it has been appended but not linked yet.
+     * @return The node after the head, or null if there is none.
+     */
+    private Node<T> nextNode(final boolean wait) {
+        Node<T> next = head.next;
+        if (next == null && wait && head != tail.get()) {
+            // The producer is about to link the node, unless it has been descheduled in between, so give it the
+            //  chance to run.
+            do {
+                Thread.yield();
+                next = head.next;
+            } while (next == null);
+        }
+
+        return next;
+    }
+
+    /**
+     * Take the value of the given node, which is after the head, and make it the new head.
+     * @param next The node after the head.
+     * @return The value of the node.
+     */
+    private T take(final Node<T> next) {
+        final T value = next.value;
+        next.value = null;
+        head = next;
+
+        return value;
+    }
+
+    /**
+     * Get the number of values in the queue, by walking it, which may only be called by the consumer thread.
+     * @return The number of values in the queue.
+     */
+    @Override
+    public int size() {
+        int size = 0;
+
+        for (Node<T> node = head.next; node != null && size < Integer.MAX_VALUE; node = node.next) {
+            ++size;
+        }
+
+        return size;
+    }
+
+    /**
+     * Check if the queue is empty, which may only be called by the consumer thread.
+     * @return Whether the queue is empty or not.
+     */
+    @Override
+    public boolean isEmpty() {
+        return head == tail.get();
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.skywa04885;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Sequence counter that takes a cache line of its own, so threads writing it don't slow down threads using the data
+ *  next to it in memory (false sharing). Besides the counter, it holds a cache of the opposite counter of a queue,
+ *  which is only used by the threads that own this counter.
+ * <p>
+ * The JVM lays out the fields of a superclass before those of its subclasses, so the counter is padded on both sides
+ *  by putting it between the padding of a superclass and a subclass.
+ */
+final class MyPaddedSequence extends MyPaddedSequenceValue {
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(MyPaddedSequenceValue.class, "value", long.class);
+        } catch (final ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private long p11, p12, p13, p14, p15, p16, p17, p18;
+
+    MyPaddedSequence(final long value) {
+        this.value = value;
+    }
+
+    /**
+     * Read the counter, seeing everything written before it was last released.
+     */
+    long getAcquire() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    /**
+     * Write the counter, making everything written before it visible to the threads that acquire it.
+     */
+    void setRelease(final long value) {
+        VALUE.setRelease(this, value);
+    }
+
+    /**
+     * Set the counter to the new value, if it still has the expected value.
+     * @return Whether the counter was set.
+     */
+    boolean compareAndSet(final long expected, final long value) {
+        return VALUE.compareAndSet(this, expected, value);
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.skywa04885;
+
+/**
+ * The padding before the counter of a MyPaddedSequence.
+ */
+@SuppressWarnings("unused")
+abstract class MyPaddedSequenceLeftPadding {
+    private long p01, p02, p03, p04, p05, p06, p07, p08;
+}
@@ -0,0 +1,15 @@
+package com.github.skywa04885;
+
+/**
+ * The counter of a MyPaddedSequence, and the cache of the opposite counter.
+ */
+abstract class MyPaddedSequenceValue extends MyPaddedSequenceLeftPadding {
+    volatile long value;
+
+    /**
+     * The last value read from the opposite counter, so it only needs to be read again once that value is no longer
+     *  good enough. It's volatile so threads sharing the counter never see a torn value, it's only written when it
+     *  gets refreshed.
+     */
+    volatile long cache;
+}
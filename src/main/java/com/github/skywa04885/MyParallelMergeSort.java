@@ -0,0 +1,353 @@
+package com.github.skywa04885;
+
+import java.lang.reflect.Array;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * My implementation of a parallel merge sort, which splits the work over a fork/join pool.
+ * <p>
+ * Both the sorting of the halves and the merging of them are done in parallel as long as a range is larger than the
+ *  threshold, below it the range is merge sorted sequentially, and tiny ranges are insertion sorted. The halves are
+ *  moved into a single auxiliary buffer the size of the range before they are merged back into the array, so no
+ *  temporary arrays are allocated along the way.
+ */
+public final class MyParallelMergeSort implements MySorter {
+    /**
+     * The default size of a range below which it's sorted or merged sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 8192;
+
+    /**
+     * The size of a range below which it's insertion sorted.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private static final MyParallelMergeSort INSTANCE = new MyParallelMergeSort(
+            ForkJoinPool.commonPool(), DEFAULT_THRESHOLD
+    );
+
+    /**
+     * Get the instance that uses the common pool and the default threshold.
+     * @return The instance.
+     */
+    public static MyParallelMergeSort getInstance() {
+        return INSTANCE;
+    }
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Create a parallel merge sort running in the given pool.
+     * @param pool The pool to run the sorting tasks in.
+     * @param threshold The size of a range below which it's sorted or merged sequentially.
+     */
+    public MyParallelMergeSort(final ForkJoinPool pool, final int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("Threshold must be at least two");
+        }
+
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Sort the range [from, to) of the given array in place using a parallel merge sort.
+     * @param array The array of which the range should be sorted.
+     * @param from The start of the range (inclusive).
+     * @param to The end of the range (exclusive).
+     * @param comparator The comparator that determines the order of the values.
+     * @param <T> The type of values in the array.
+     */
+    @Override
+    public <T> void sortInPlace(final T[] array, final int from, final int to, final Comparator<? super T> comparator) {
+        Objects.checkFromToIndex(from, to, array.length);
+
+        final int length = to - from;
+        if (length < 2) {
+            return;
+        }
+
+        // The buffer only holds values moved into it before a merge, so it starts out empty.
+        @SuppressWarnings("unchecked")
+        final T[] buffer = (T[]) Array.newInstance(array.getClass().getComponentType(), length);
+
+        if (length <= threshold) {
+            mergeSort(array, buffer, from, from, to, comparator);
+        } else {
+            pool.invoke(new SortTask<>(array, buffer, from, from, to, threshold, comparator));
+        }
+    }
+
+    /**
+     * Task that sorts the range [low, high) of the array in place. The value at index i of the array is moved to
+     *  index i - base of the buffer before being merged back.
+     * @param <T> The type of values in the arrays.
+     */
+    @SuppressWarnings("serial") // Tasks only live inside the pool, they're never serialized.
+    private static final class SortTask<T> extends RecursiveAction {
+        private final T[] array;
+        private final T[] buffer;
+        private final int base;
+        private final int low;
+        private final int high;
+        private final int threshold;
+        private final Comparator<? super T> comparator;
+
+        public SortTask(
+                final T[] array,
+                final T[] buffer,
+                final int base,
+                final int low,
+                final int high,
+                final int threshold,
+                final Comparator<? super T> comparator
+        ) {
+            this.array = array;
+            this.buffer = buffer;
+            this.base = base;
+            this.low = low;
+            this.high = high;
+            this.threshold = threshold;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low <= threshold) {
+                mergeSort(array, buffer, base, low, high, comparator);
+                return;
+            }
+
+            final int mid = (low + high) >>> 1;
+            invokeAll(
+                    new SortTask<>(array, buffer, base, low, mid, threshold, comparator),
+                    new SortTask<>(array, buffer, base, mid, high, threshold, comparator)
+            );
+
+            // If the halves are already in order, there's nothing to merge.
+            if (comparator.compare(array[mid - 1], array[mid]) <= 0) {
+                return;
+            }
+
+            // Move both halves into the buffer, and merge them back into the array.
+            System.arraycopy(array, low, buffer, low - base, high - low);
+            new MergeTask<>(buffer, low - base, mid - base, mid - base, high - base, array, low, threshold, comparator)
+                    .compute();
+        }
+    }
+
+    /**
+     * Task that merges the sorted runs [leftLow, leftHigh) and [rightLow, rightHigh) of the source into the
+     *  destination starting at the given offset.
+     * @param <T> The type of values in the arrays.
+     */
+    @SuppressWarnings("serial") // Tasks only live inside the pool, they're never serialized.
+    private static final class MergeTask<T> extends RecursiveAction {
+        private final T[] source;
+        private final int leftLow;
+        private final int leftHigh;
+        private final int rightLow;
+        private final int rightHigh;
+        private final T[] destination;
+        private final int offset;
+        private final int threshold;
+        private final Comparator<? super T> comparator;
+
+        public MergeTask(
+                final T[] source,
+                final int leftLow,
+                final int leftHigh,
+                final int rightLow,
+                final int rightHigh,
+                final T[] destination,
+                final int offset,
+                final int threshold,
+                final Comparator<? super T> comparator
+        ) {
+            this.source = source;
+            this.leftLow = leftLow;
+            this.leftHigh = leftHigh;
+            this.rightLow = rightLow;
+            this.rightHigh = rightHigh;
+            this.destination = destination;
+            this.offset = offset;
+            this.threshold = threshold;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            final int leftSize = leftHigh - leftLow;
+            final int rightSize = rightHigh - rightLow;
+
+            if (leftSize + rightSize <= threshold) {
+                merge(source, leftLow, leftHigh, rightLow, rightHigh, destination, offset, comparator);
+                return;
+            }
+
+            // Split the larger run at its middle, and the smaller run at the position where that middle value would
+            //  go. Equal values from the left run stay in front of those from the right run, keeping the sort stable.
+            final int leftSplit;
+            final int rightSplit;
+            if (leftSize >= rightSize) {
+                leftSplit = (leftLow + leftHigh) >>> 1;
+                rightSplit = lowerBound(source, rightLow, rightHigh, source[leftSplit], comparator);
+            } else {
+                rightSplit = (rightLow + rightHigh) >>> 1;
+                leftSplit = upperBound(source, leftLow, leftHigh, source[rightSplit], comparator);
+            }
+
+            final int splitOffset = offset + (leftSplit - leftLow) + (rightSplit - rightLow);
+
+            invokeAll(
+                    new MergeTask<>(source, leftLow, leftSplit, rightLow, rightSplit, destination, offset, threshold,
+                            comparator),
+                    new MergeTask<>(source, leftSplit, leftHigh, rightSplit, rightHigh, destination, splitOffset,
+                            threshold, comparator)
+            );
+        }
+    }
+
+    /**
+     * Sequentially merge sort the range [low, high) of the array in place.
+     * @param array The array of which the range should be sorted.
+     * @param buffer The buffer, in which the value at index i of the array is moved to index i - base.
+     * @param base The index in the array that corresponds to the start of the buffer.
+     * @param low The start of the range (inclusive).
+     * @param high The end of the range (exclusive).
+     * @param comparator The comparator that determines the order of the values.
+     * @param <T> The type of values in the arrays.
+     */
+    private static <T> void mergeSort(
+            final T[] array,
+            final T[] buffer,
+            final int base,
+            final int low,
+            final int high,
+            final Comparator<? super T> comparator
+    ) {
+        if (high - low <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, low, high, comparator);
+            return;
+        }
+
+        final int mid = (low + high) >>> 1;
+
+        mergeSort(array, buffer, base, low, mid, comparator);
+        mergeSort(array, buffer, base, mid, high, comparator);
+
+        // If the halves are already in order, there's nothing to merge.
+        if (comparator.compare(array[mid - 1], array[mid]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(array, low, buffer, low - base, high - low);
+        merge(buffer, low - base, mid - base, mid - base, high - base, array, low, comparator);
+    }
+
+    /**
+     * Sort the range [low, high) of the given array using insertion sort.
+     * @param array The array to sort the range of.
+     * @param low The start of the range (inclusive).
+     * @param high The end of the range (exclusive).
+     * @param <T> The type of values in the array.
+     */
+    private static <T> void insertionSort(
+            final T[] array,
+            final int low,
+            final int high,
+            final Comparator<? super T> comparator
+    ) {
+        for (int i = low + 1; i < high; ++i) {
+            final T value = array[i];
+
+            int j = i - 1;
+            while (j >= low && comparator.compare(array[j], value) > 0) {
+                array[j + 1] = array[j];
+                --j;
+            }
+
+            array[j + 1] = value;
+        }
+    }
+
+    /**
+     * Merge the sorted runs [leftLow, leftHigh) and [rightLow, rightHigh) of the source into the destination.
+     */
+    private static <T> void merge(
+            final T[] source,
+            final int leftLow,
+            final int leftHigh,
+            final int rightLow,
+            final int rightHigh,
+            final T[] destination,
+            final int offset,
+            final Comparator<? super T> comparator
+    ) {
+        int i = leftLow, j = rightLow, k = offset;
+
+        while (i < leftHigh && j < rightHigh) {
+            if (comparator.compare(source[i], source[j]) <= 0) {
+                destination[k++] = source[i++];
+            } else {
+                destination[k++] = source[j++];
+            }
+        }
+
+        while (i < leftHigh) {
+            destination[k++] = source[i++];
+        }
+
+        while (j < rightHigh) {
+            destination[k++] = source[j++];
+        }
+    }
+
+    /**
+     * Find the first index in the sorted range [low, high) whose value is not less than the given value.
+     */
+    private static <T> int lowerBound(
+            final T[] array,
+            int low,
+            int high,
+            final T value,
+            final Comparator<? super T> comparator
+    ) {
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (comparator.compare(array[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Find the first index in the sorted range [low, high) whose value is greater than the given value.
+     */
+    private static <T> int upperBound(
+            final T[] array,
+            int low,
+            int high,
+            final T value,
+            final Comparator<? super T> comparator
+    ) {
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (comparator.compare(array[mid], value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.skywa04885;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Interface for sorting algorithms that sort arrays of primitives directly, without boxing them.
+ * <p>
+ * Doubles are sorted in the order of Double.compare, so -0.0 comes before 0.0 and NaN values end up last.
+ */
+public interface MyPrimitiveSorter {
+    int[] sort(final int[] unsorted);
+
+    long[] sort(final long[] unsorted);
+
+    double[] sort(final double[] unsorted);
+
+    /**
+     * Sort the given unsorted array by the int keys extracted from its values. Every key is extracted only once,
+     *  and packed together with the index of its value into a long, so sorting the longs sorts the indices. Since
+     *  the indices are part of the longs, values with equal keys keep their original order.
+     * @param unsorted The unsorted array.
+     * @param keyExtractor The function that extracts the key of a value.
+     * @return A copy of the unsorted array, sorted by the keys of the values.
+     * @param <T> The type of values in the array.
+     */
+    default <T> T[] sortByIntKey(final T[] unsorted, final ToIntFunction<? super T> keyExtractor) {
+        final int n = unsorted.length;
+
+        final long[] packed = new long[n];
+        for (int i = 0; i < n; ++i) {
+            packed[i] = ((long) keyExtractor.applyAsInt(unsorted[i]) << Integer.SIZE) | i;
+        }
+
+        final long[] sorted = sort(packed);
+
+        final T[] result = Arrays.copyOf(unsorted, n);
+        for (int i = 0; i < n; ++i) {
+            result[i] = unsorted[(int) sorted[i]];
+        }
+
+        return result;
+    }
+
+    /**
+     * Sort the given unsorted array by the long keys extracted from its values. Every key is extracted only once,
+     *  the keys are sorted, and then every value is put after the values with a smaller key and the values before
+     *  it with an equal key, so values with equal keys keep their original order.
+     * @param unsorted The unsorted array.
+     * @param keyExtractor The function that extracts the key of a value.
+     * @return A copy of the unsorted array, sorted by the keys of the values.
+     * @param <T> The type of values in the array.
+     */
+    default <T> T[] sortByLongKey(final T[] unsorted, final ToLongFunction<? super T> keyExtractor) {
+        final int n = unsorted.length;
+
+        final long[] keys = new long[n];
+        for (int i = 0; i < n; ++i) {
+            keys[i] = keyExtractor.applyAsLong(unsorted[i]);
+        }
+
+        final long[] sortedKeys = sort(keys);
+
+        // The number of values placed so far at the position where each group of equal keys starts.
+        final int[] placed = new int[n];
+
+        final T[] result = Arrays.copyOf(unsorted, n);
+        for (int i = 0; i < n; ++i) {
+            final int position = lowerBound(sortedKeys, keys[i]);
+            result[position + placed[position]++] = unsorted[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Find the first index in the given sorted array whose value is not less than the given key.
+     */
+    private static int lowerBound(final long[] array, final long key) {
+        int low = 0;
+        int high = array.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (array[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.skywa04885;
+
+import java.util.Arrays;
+
+/**
+ * My implementation of the least significant digit radix sort, for primitives.
+ * <p>
+ * Instead of comparing values, the values are distributed by one byte at a time (starting at the least significant
+ *  one) using a counting sort, which keeps the order of the previous passes. Bytes that are the same for every value
+ *  are skipped. The sign bit is flipped while counting, so negative values end up in front of the positive ones.
+ *  Doubles are mapped onto longs that sort in the order of Double.compare, and back once sorted.
+ */
+public final class MyRadixSort implements MyPrimitiveSorter {
+    /**
+     * The number of bits sorted on per pass.
+     */
+    private static final int RADIX_BITS = 8;
+
+    /**
+     * The number of distinct values of a digit.
+     */
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private static final MyRadixSort INSTANCE = new MyRadixSort();
+
+    public static MyRadixSort getInstance() {
+        return INSTANCE;
+    }
+
+    private MyRadixSort() {
+    }
+
+    /**
+     * Sort the given unsorted array of ints using radix sort.
+     * @param unsorted The unsorted array.
+     * @return A sorted copy of the unsorted array.
+     */
+    @Override
+    public int[] sort(final int[] unsorted) {
+        final int n = unsorted.length;
+        int[] array = Arrays.copyOf(unsorted, n);
+        int[] buffer = new int[n];
+
+        // Count the digits of all the passes at once.
+        final int passes = Integer.SIZE / RADIX_BITS;
+        final int[][] counts = new int[passes][RADIX + 1];
+        for (final int value : array) {
+            final int key = value ^ Integer.MIN_VALUE;
+            for (int pass = 0; pass < passes; ++pass) {
+                ++counts[pass][((key >>> (pass * RADIX_BITS)) & (RADIX - 1)) + 1];
+            }
+        }
+
+        for (int pass = 0; pass < passes; ++pass) {
+            final int[] offsets = counts[pass];
+            if (isSingleDigit(offsets, n)) {
+                continue;
+            }
+
+            toOffsets(offsets);
+
+            final int shift = pass * RADIX_BITS;
+            for (final int value : array) {
+                buffer[offsets[((value ^ Integer.MIN_VALUE) >>> shift) & (RADIX - 1)]++] = value;
+            }
+
+            final int[] temp = array;
+            array = buffer;
+            buffer = temp;
+        }
+
+        return array;
+    }
+
+    /**
+     * Sort the given unsorted array of longs using radix sort.
+     * @param unsorted The unsorted array.
+     * @return A sorted copy of the unsorted array.
+     */
+    @Override
+    public long[] sort(final long[] unsorted) {
+        final long[] array = Arrays.copyOf(unsorted, unsorted.length);
+        return radixSort(array);
+    }
+
+    /**
+     * Sort the given unsorted array of doubles using radix sort.
+     * @param unsorted The unsorted array.
+     * @return A sorted copy of the unsorted array.
+     */
+    @Override
+    public double[] sort(final double[] unsorted) {
+        final int n = unsorted.length;
+
+        final long[] keys = new long[n];
+        for (int i = 0; i < n; ++i) {
+            keys[i] = toSortableBits(Double.doubleToLongBits(unsorted[i]));
+        }
+
+        final long[] sortedKeys = radixSort(keys);
+
+        final double[] sorted = new double[n];
+        for (int i = 0; i < n; ++i) {
+            sorted[i] = Double.longBitsToDouble(toSortableBits(sortedKeys[i]));
+        }
+
+        return sorted;
+    }
+
+    /**
+     * Radix sort the given array of longs, which is used as one of the two arrays the passes alternate between.
+     * @param array The array that should be sorted.
+     * @return The sorted array, which is either the given array or the buffer.
+     */
+    private static long[] radixSort(long[] array) {
+        final int n = array.length;
+        long[] buffer = new long[n];
+
+        final int passes = Long.SIZE / RADIX_BITS;
+        final int[][] counts = new int[passes][RADIX + 1];
+        for (final long value : array) {
+            final long key = value ^ Long.MIN_VALUE;
+            for (int pass = 0; pass < passes; ++pass) {
+                ++counts[pass][(int) ((key >>> (pass * RADIX_BITS)) & (RADIX - 1)) + 1];
+            }
+        }
+
+        for (int pass = 0; pass < passes; ++pass) {
+            final int[] offsets = counts[pass];
+            if (isSingleDigit(offsets, n)) {
+                continue;
+            }
+
+            toOffsets(offsets);
+
+            final int shift = pass * RADIX_BITS;
+            for (final long value : array) {
+                buffer[offsets[(int) (((value ^ Long.MIN_VALUE) >>> shift) & (RADIX - 1))]++] = value;
+            }
+
+            final long[] temp = array;
+            array = buffer;
+            buffer = temp;
+        }
+
+        return array;
+    }
+
+    /**
+     * Map the bits of a double onto a long that compares like the double does with Double.compare, the mapping is
+     *  its own inverse. The bits of negative values are flipped (except the sign), so larger magnitudes come first.
+     * @param bits The bits of the double (or the mapped long).
+     * @return The mapped long (or the bits of the double).
+     */
+    private static long toSortableBits(final long bits) {
+        return bits ^ ((bits >> (Long.SIZE - 1)) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Check whether all the values have the same digit, in which case the pass wouldn't change anything.
+     * @param counts The counts of the digits, shifted up by one.
+     * @param n The number of values.
+     * @return Whether all the values have the same digit.
+     */
+    private static boolean isSingleDigit(final int[] counts, final int n) {
+        for (int digit = 1; digit <= RADIX; ++digit) {
+            if (counts[digit] == n) {
+                return true;
+            }
+        }
+
+        return n == 0;
+    }
+
+    /**
+     * Turn the counts of the digits (shifted up by one) into the offsets at which each digit starts.
+     * @param counts The counts, which get replaced by the offsets.
+     */
+    private static void toOffsets(final int[] counts) {
+        for (int digit = 1; digit <= RADIX; ++digit) {
+            counts[digit] += counts[digit - 1];
+        }
+    }
+}
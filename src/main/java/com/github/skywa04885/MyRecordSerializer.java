@@ -0,0 +1,81 @@
+package com.github.skywa04885;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Interface for writing records to and reading them back from a binary stream, used to store records in files.
+ * @param <T> The type of records.
+ */
+public interface MyRecordSerializer<T> {
+    /**
+     * Write the given record to the given output.
+     * @param output The output to write the record to.
+     * @param record The record to write.
+     * @throws IOException If the record could not be written.
+     */
+    void write(final DataOutput output, final T record) throws IOException;
+
+    /**
+     * Read the next record from the given input.
+     * @param input The input to read the record from.
+     * @return The read record.
+     * @throws IOException If the record could not be read.
+     */
+    T read(final DataInput input) throws IOException;
+
+    /**
+     * Get a serializer that stores integers as four bytes each.
+     * @return The serializer.
+     */
+    static MyRecordSerializer<Integer> integers() {
+        return new MyRecordSerializer<>() {
+            @Override
+            public void write(final DataOutput output, final Integer record) throws IOException {
+                output.writeInt(record);
+            }
+
+            @Override
+            public Integer read(final DataInput input) throws IOException {
+                return input.readInt();
+            }
+        };
+    }
+
+    /**
+     * Get a serializer that stores longs as eight bytes each.
+     * @return The serializer.
+     */
+    static MyRecordSerializer<Long> longs() {
+        return new MyRecordSerializer<>() {
+            @Override
+            public void write(final DataOutput output, final Long record) throws IOException {
+                output.writeLong(record);
+            }
+
+            @Override
+            public Long read(final DataInput input) throws IOException {
+                return input.readLong();
+            }
+        };
+    }
+
+    /**
+     * Get a serializer that stores strings in modified UTF-8, prefixed by their length.
+     * @return The serializer.
+     */
+    static MyRecordSerializer<String> strings() {
+        return new MyRecordSerializer<>() {
+            @Override
+            public void write(final DataOutput output, final String record) throws IOException {
+                output.writeUTF(record);
+            }
+
+            @Override
+            public String read(final DataInput input) throws IOException {
+                return input.readUTF();
+            }
+        };
+    }
+}
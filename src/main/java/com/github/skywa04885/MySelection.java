@@ -0,0 +1,257 @@
+package com.github.skywa04885;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * My implementation of selection algorithms, for when only some of the values of a sort are needed.
+ * <p>
+ * The k-th smallest value is found by introselect: a quickselect that only partitions the side containing k, which
+ *  takes linear time on average. If two partitions in a row don't halve the range, it switches to the median of
+ *  medians as pivot for the rest of the selection. The partitions before the switch shrink the range geometrically and
+ *  the ones after it are guaranteed to, so the selection takes linear time in the worst case. The k smallest values
+ *  are found by keeping a bounded heap of the smallest values seen so far, which takes O(n log k) time and only needs
+ *  a single pass over the values.
+ */
+public final class MySelection {
+    /**
+     * The size of a range below which it's insertion sorted instead of partitioned.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private MySelection() {
+    }
+
+    /**
+     * Find the k-th smallest value of the given array in its natural order.
+     * @see #select(Object[], int, Comparator)
+     */
+    public static <T extends Comparable<T>> T select(final T[] array, final int k) {
+        return select(array, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Find the k-th smallest value (counting from zero) of the given array. The array is reordered in place, such
+     *  that the k-th smallest value ends up at index k, with no greater values before and no smaller values after it.
+     * @param array The array to select the value from, which gets reordered.
+     * @param k The zero-based rank of the value to find.
+     * @param comparator The comparator that determines the order of the values.
+     * @return The k-th smallest value.
+     * @param <T> The type of values in the array.
+     */
+    public static <T> T select(final T[] array, final int k, final Comparator<? super T> comparator) {
+        if (k < 0 || k >= array.length) {
+            throw new IndexOutOfBoundsException("Rank is out of bounds");
+        }
+
+        introSelect(array, 0, array.length - 1, k, comparator);
+
+        return array[k];
+    }
+
+    /**
+     * Find the (lower) median of the given array in its natural order.
+     * @see #median(Object[], Comparator)
+     */
+    public static <T extends Comparable<T>> T median(final T[] array) {
+        return median(array, Comparator.naturalOrder());
+    }
+
+    /**
+     * Find the (lower) median of the given array, reordering it in place like select does.
+     * @param array The array to find the median of, which gets reordered.
+     * @param comparator The comparator that determines the order of the values.
+     * @return The median.
+     * @param <T> The type of values in the array.
+     */
+    public static <T> T median(final T[] array, final Comparator<? super T> comparator) {
+        return select(array, (array.length - 1) / 2, comparator);
+    }
+
+    /**
+     * Find the k smallest of the given values in their natural order.
+     * @see #topK(Iterable, int, Comparator)
+     */
+    public static <T extends Comparable<T>> List<T> topK(final Iterable<? extends T> values, final int k) {
+        return topK(values, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Find the k smallest of the given values, using a heap that never holds more than k values. The root of the
+     *  heap is the greatest value kept so far, which is replaced by every smaller value that comes along. To find
+     *  the k greatest values, pass a reversed comparator.
+     * @param values The values to find the smallest ones of.
+     * @param k The number of values to find.
+     * @param comparator The comparator that determines the order of the values.
+     * @return The (at most) k smallest values in ascending order.
+     * @param <T> The type of values.
+     */
+    public static <T> List<T> topK(
+            final Iterable<? extends T> values,
+            final int k,
+            final Comparator<? super T> comparator
+    ) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Number of values cannot be negative");
+        }
+
+        // The reversed comparator turns the queue into a max-heap.
+        final MyPriorityQueue<T> heap = MyPriorityQueue.orderedBy(comparator.reversed());
+
+        if (k > 0) {
+            for (final T value : values) {
+                if (heap.size() < k) {
+                    heap.enqueue(value);
+                } else if (comparator.compare(value, heap.peek().orElseThrow()) < 0) {
+                    heap.dequeue();
+                    heap.enqueue(value);
+                }
+            }
+        }
+
+        // The heap hands out the greatest value first, so fill the result from the back.
+        @SuppressWarnings("unchecked")
+        final T[] smallest = (T[]) new Object[heap.size()];
+        for (int i = smallest.length - 1; i >= 0; --i) {
+            smallest[i] = heap.dequeue().orElseThrow();
+        }
+
+        return new ArrayList<>(Arrays.asList(smallest));
+    }
+
+    /**
+     * Reorder the range [left, right] such that the k-th smallest value ends up at index k.
+     * @param array The array of which the range should be reordered.
+     * @param left The start of the range (inclusive).
+     * @param right The end of the range (inclusive).
+     * @param k The index the selected value should end up at.
+     * @param comparator The comparator that determines the order of the values.
+     * @param <T> The type of values in the array.
+     */
+    private static <T> void introSelect(
+            final T[] array,
+            int left,
+            int right,
+            final int k,
+            final Comparator<? super T> comparator
+    ) {
+        // Whether the cheap pivots made too little progress, after which the median of medians is used.
+        boolean slow = false;
+
+        // The size of the range when the progress was last checked, and the partitions since then.
+        int checkedSize = right - left + 1;
+        int partitions = 0;
+
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            final int pivotIndex = slow
+                    ? medianOfMedians(array, left, right, comparator)
+                    : medianOfThree(array, left, (left + right) >>> 1, right, comparator);
+            final T pivot = array[pivotIndex];
+
+            // Partition into [left, less) < pivot == [less, great] < (great, right], so runs of values equal to the
+            //  pivot are never partitioned again.
+            int less = left;
+            int great = right;
+            int i = left;
+            while (i <= great) {
+                final int comparison = comparator.compare(array[i], pivot);
+                if (comparison < 0) {
+                    swap(array, less++, i++);
+                } else if (comparison > 0) {
+                    swap(array, i, great--);
+                } else {
+                    ++i;
+                }
+            }
+
+            // Only continue in the part containing k.
+            if (k < less) {
+                right = less - 1;
+            } else if (k > great) {
+                left = great + 1;
+            } else {
+                return;
+            }
+
+            // Every two partitions, check that they at least halved the range.
+            if (!slow && ++partitions == 2) {
+                final int size = right - left + 1;
+                slow = size > checkedSize / 2;
+                checkedSize = size;
+                partitions = 0;
+            }
+        }
+
+        insertionSort(array, left, right, comparator);
+    }
+
+    /**
+     * Find the index of a pivot that is guaranteed to have at least about 30% of the range on either side, by
+     *  taking the median of the medians of groups of five values. The medians are gathered at the start of the range.
+     * @return The index of the pivot.
+     */
+    private static <T> int medianOfMedians(
+            final T[] array,
+            final int left,
+            final int right,
+            final Comparator<? super T> comparator
+    ) {
+        int medians = left;
+        for (int groupLeft = left; groupLeft <= right; groupLeft += 5) {
+            final int groupRight = Math.min(groupLeft + 4, right);
+            insertionSort(array, groupLeft, groupRight, comparator);
+            swap(array, medians++, (groupLeft + groupRight) >>> 1);
+        }
+
+        final int mid = (left + medians - 1) >>> 1;
+        introSelect(array, left, medians - 1, mid, comparator);
+
+        return mid;
+    }
+
+    /**
+     * Find the index of the median of the values at the three given indices.
+     */
+    private static <T> int medianOfThree(
+            final T[] array,
+            final int a,
+            final int b,
+            final int c,
+            final Comparator<? super T> comparator
+    ) {
+        if (comparator.compare(array[a], array[b]) < 0) {
+            if (comparator.compare(array[b], array[c]) < 0) return b;
+            return comparator.compare(array[a], array[c]) < 0 ? c : a;
+        } else {
+            if (comparator.compare(array[a], array[c]) < 0) return a;
+            return comparator.compare(array[b], array[c]) < 0 ? c : b;
+        }
+    }
+
+    private static <T> void insertionSort(
+            final T[] array,
+            final int left,
+            final int right,
+            final Comparator<? super T> comparator
+    ) {
+        for (int i = left + 1; i <= right; ++i) {
+            final T value = array[i];
+
+            int j = i - 1;
+            while (j >= left && comparator.compare(array[j], value) > 0) {
+                array[j + 1] = array[j];
+                --j;
+            }
+
+            array[j + 1] = value;
+        }
+    }
+
+    private static <T> void swap(final T[] array, final int i, final int j) {
+        final T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
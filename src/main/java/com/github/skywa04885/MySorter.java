@@ -1,5 +1,50 @@
 package com.github.skywa04885;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 public interface MySorter {
-    <T extends Comparable<T>> T[] sort(final T[] unsorted);
+    /**
+     * Sort the given unsorted array in the natural order of its values.
+     * @param unsorted The unsorted array.
+     * @return A sorted copy of the unsorted array.
+     * @param <T> The type of values in the array.
+     */
+    default <T extends Comparable<T>> T[] sort(final T[] unsorted) {
+        return sort(unsorted, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sort the given unsorted array in the order determined by the given comparator.
+     * @param unsorted The unsorted array.
+     * @param comparator The comparator that determines the order of the values.
+     * @return A sorted copy of the unsorted array.
+     * @param <T> The type of values in the array.
+     */
+    default <T> T[] sort(final T[] unsorted, final Comparator<? super T> comparator) {
+        final T[] array = Arrays.copyOf(unsorted, unsorted.length);
+        sortInPlace(array, 0, array.length, comparator);
+        return array;
+    }
+
+    /**
+     * Sort the range [from, to) of the given array in place, in the natural order of its values.
+     * @param array The array of which the range should be sorted.
+     * @param from The start of the range (inclusive).
+     * @param to The end of the range (exclusive).
+     * @param <T> The type of values in the array.
+     */
+    default <T extends Comparable<T>> void sortInPlace(final T[] array, final int from, final int to) {
+        sortInPlace(array, from, to, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sort the range [from, to) of the given array in place, in the order determined by the given comparator.
+     * @param array The array of which the range should be sorted.
+     * @param from The start of the range (inclusive).
+     * @param to The end of the range (exclusive).
+     * @param comparator The comparator that determines the order of the values.
+     * @param <T> The type of values in the array.
+     */
+    <T> void sortInPlace(final T[] array, final int from, final int to, final Comparator<? super T> comparator);
 }
@@ -0,0 +1,135 @@
+package com.github.skywa04885;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * My implementation of a bounded lock-free queue for a single producer and a single consumer thread.
+ * <p>
+ * The values are stored in a ring buffer with a power-of-two capacity. The producer owns the tail counter and the
+ *  consumer the head counter; each thread only writes its own counter, so no compare-and-set is needed: the producer
+ *  writes the value and then releases the tail, after which the consumer can see both. The counters are padded to
+ *  cache lines of their own, and each thread caches the last value it read of the other counter, so it only touches
+ *  the cache line of the other thread when the cached value says the queue is full (or empty).
+ * @param <T> The type of values in the queue.
+ */
+public class MySpscArrayQueue<T> implements MyConcurrentQueue<T> {
+    private final Object[] buffer;
+    private final int mask;
+
+    /**
+     * The sequence number of the next value to poll, with a cache of the tail, both owned by the consumer.
+     */
+    private final MyPaddedSequence head = new MyPaddedSequence(0);
+
+    /**
+     * The sequence number of the next value to offer, with a cache of the head, both owned by the producer.
+     */
+    private final MyPaddedSequence tail = new MyPaddedSequence(0);
+
+    /**
+     * Create a queue that can hold the given number of values.
+     * @param capacity The capacity, which is rounded up to a power of two.
+     */
+    public MySpscArrayQueue(final int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between one and 2^30");
+        }
+
+        this.buffer = new Object[Math.max(1, Integer.highestOneBit(capacity - 1) << 1)];
+        this.mask = buffer.length - 1;
+    }
+
+    /**
+     * Get the number of values the queue can hold.
+     * @return The capacity of the queue.
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Add the given value to the back of the queue, which may only be called by the producer thread.
+     * @param value The value to add.
+     * @return Whether the value was added, false if the queue is full.
+     */
+    @Override
+    public boolean offer(final T value) {
+        Objects.requireNonNull(value);
+
+        final long sequence = tail.value;
+        if (sequence - tail.cache == buffer.length) {
+            // The cached head says the queue is full, check whether the consumer has moved on since.
+            tail.cache = head.getAcquire();
+            if (sequence - tail.cache == buffer.length) {
+                return false;
+            }
+        }
+
+        buffer[(int) sequence & mask] = value;
+        tail.setRelease(sequence + 1);
+
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<T> poll() {
+        final long sequence = head.value;
+        if (sequence == head.cache) {
+            // The cached tail says the queue is empty, check whether the producer has added values since.
+            head.cache = tail.getAcquire();
+            if (sequence == head.cache) {
+                return Optional.empty();
+            }
+        }
+
+        final int index = (int) sequence & mask;
+        final T value = (T) buffer[index];
+        buffer[index] = null;
+        head.setRelease(sequence + 1);
+
+        return Optional.of(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drain(final Consumer<? super T> consumer, final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+
+        final long sequence = head.value;
+        head.cache = tail.getAcquire();
+
+        final int count = (int) Math.min(head.cache - sequence, limit);
+
+        int i = 0;
+        try {
+            for (; i < count; ++i) {
+                final int index = (int) (sequence + i) & mask;
+                final T value = (T) buffer[index];
+                buffer[index] = null;
+                consumer.accept(value);
+            }
+        } finally {
+            // Release all the slots at once, including the one of a value whose consumer threw.
+            head.setRelease(sequence + Math.min(i + 1, count));
+        }
+
+        return count;
+    }
+
+    @Override
+    public int size() {
+        // Read the head first, so the tail can't be behind it.
+        final long headSequence = head.getAcquire();
+        return (int) Math.min(tail.getAcquire() - headSequence, buffer.length);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,416 @@
+package com.github.skywa04885;
+
+import java.lang.reflect.Array;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * My implementation of an adaptive, natural run merge sort.
+ * <p>
+ * Instead of blindly halving the input, the array is scanned for runs that are already ascending (or strictly
+ *  descending, which are reversed in place). Short runs are extended to a minimum length using binary insertion
+ *  sort. Which runs get merged is decided like in Powersort: the boundary between two runs gets a power, the depth at
+ *  which a perfectly balanced merge tree over the whole range would split between their midpoints, and the runs on the
+ *  stack are merged as long as their boundary is deeper than the next one. This keeps the merges about as balanced as
+ *  a top-down merge sort, without ever splitting a run. A merge first skips the values that are already in place, and
+ *  searches ahead once one run keeps winning, so inputs that are already (nearly) sorted are sorted in close to linear
+ *  time.
+ */
+public final class MyTimSort implements MySorter {
+    private static final MyTimSort INSTANCE = new MyTimSort();
+
+    public static MyTimSort getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Runs shorter than this are extended using binary insertion sort, so shorter ranges are sorted by binary
+     *  insertion sort alone.
+     */
+    private static final int MIN_RUN_LENGTH = 32;
+
+    /**
+     * The number of values in a row a merge takes from the same run, after which it searches for the end of the streak
+     *  instead of comparing one value at a time.
+     */
+    private static final int GALLOP_STREAK = 7;
+
+    private MyTimSort() {
+    }
+
+    /**
+     * Sort the range [from, to) of the given array in place using the adaptive merge sort. The temporary buffer for
+     *  the merges never holds more than half the range.
+     * @param array The array of which the range should be sorted.
+     * @param from The start of the range (inclusive).
+     * @param to The end of the range (exclusive).
+     * @param comparator The comparator that determines the order of the values.
+     * @param <T> The type of values in the array.
+     */
+    @Override
+    public <T> void sortInPlace(final T[] array, final int from, final int to, final Comparator<? super T> comparator) {
+        Objects.checkFromToIndex(from, to, array.length);
+
+        if (to - from < 2) {
+            return;
+        }
+
+        int runEnd = nextRun(array, from, to, comparator);
+        if (runEnd == to) {
+            return;
+        }
+
+        final Merger<T> merger = new Merger<>(array, from, to, comparator);
+
+        int runStart = from;
+        do {
+            final int nextRunEnd = nextRun(array, runEnd, to, comparator);
+            merger.pushRun(runStart, runEnd, nextRunEnd);
+
+            runStart = runEnd;
+            runEnd = nextRunEnd;
+        } while (runEnd < to);
+
+        merger.mergeAll(runStart);
+    }
+
+    /**
+     * Find the run that starts at the given index and make it ascending. A strictly descending run is reversed, the
+     *  strictness makes sure no equal values get swapped. A run shorter than the minimum run length is extended using
+     *  binary insertion sort.
+     * @return The end of the run (exclusive).
+     */
+    private static <T> int nextRun(
+            final T[] array,
+            final int start,
+            final int to,
+            final Comparator<? super T> comparator
+    ) {
+        int end = start + 1;
+
+        if (end < to) {
+            if (comparator.compare(array[end], array[start]) < 0) {
+                do {
+                    ++end;
+                } while (end < to && comparator.compare(array[end], array[end - 1]) < 0);
+
+                reverse(array, start, end);
+            } else {
+                do {
+                    ++end;
+                } while (end < to && comparator.compare(array[end], array[end - 1]) >= 0);
+            }
+        }
+
+        final int minEnd = to - start > MIN_RUN_LENGTH ? start + MIN_RUN_LENGTH : to;
+        if (end < minEnd) {
+            binaryInsertionSort(array, start, minEnd, end, comparator);
+            end = minEnd;
+        }
+
+        return end;
+    }
+
+    /**
+     * Sort the range [from, to) of which [from, sorted) is already sorted, by inserting every other value after the
+     *  equal values before it.
+     */
+    private static <T> void binaryInsertionSort(
+            final T[] array,
+            final int from,
+            final int to,
+            final int sorted,
+            final Comparator<? super T> comparator
+    ) {
+        for (int i = sorted; i < to; ++i) {
+            final T value = array[i];
+            final int index = MyBinarySearch.upperBound(array, from, i, value, comparator);
+
+            System.arraycopy(array, index, array, index + 1, i - index);
+            array[index] = value;
+        }
+    }
+
+    private static void reverse(final Object[] array, final int from, final int to) {
+        for (int i = from, j = to - 1; i < j; ++i, --j) {
+            final Object temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+
+    /**
+     * Find the lower bound (or the upper bound) of the given value in the sorted range [from, to), probing at
+     *  exponentially growing distances from the start of the range before binary searching the last gap. This takes
+     *  O(log d) comparisons, with d the distance from the start to the result.
+     */
+    private static <T> int searchFromStart(
+            final T[] array,
+            final int from,
+            final int to,
+            final T value,
+            final boolean upper,
+            final Comparator<? super T> comparator
+    ) {
+        // The bound always lies in [low, high], with the value at high (if any) ordered after the bound.
+        int low = from;
+        int high = from;
+        int step = 1;
+        while (high < to && isBeforeBound(array[high], value, upper, comparator)) {
+            low = high + 1;
+            high = to - high > step ? high + step : to;
+            step <<= 1;
+        }
+
+        return bound(array, low, high, value, upper, comparator);
+    }
+
+    /**
+     * Find the lower bound (or the upper bound) of the given value in the sorted range [from, to), like
+     *  searchFromStart, but probing from the end of the range. This takes O(log d) comparisons, with d the distance
+     *  from the result to the end.
+     */
+    private static <T> int searchFromEnd(
+            final T[] array,
+            final int from,
+            final int to,
+            final T value,
+            final boolean upper,
+            final Comparator<? super T> comparator
+    ) {
+        // The bound always lies in [low, high], with the value before low (if any) ordered before the bound.
+        int low = to;
+        int high = to;
+        int step = 1;
+        while (low > from && !isBeforeBound(array[low - 1], value, upper, comparator)) {
+            high = low - 1;
+            low = low - from > step ? low - step : from;
+            step <<= 1;
+        }
+
+        return bound(array, low, high, value, upper, comparator);
+    }
+
+    private static <T> boolean isBeforeBound(
+            final T element,
+            final T value,
+            final boolean upper,
+            final Comparator<? super T> comparator
+    ) {
+        final int comparison = comparator.compare(element, value);
+        return upper ? comparison <= 0 : comparison < 0;
+    }
+
+    private static <T> int bound(
+            final T[] array,
+            final int from,
+            final int to,
+            final T value,
+            final boolean upper,
+            final Comparator<? super T> comparator
+    ) {
+        return upper
+                ? MyBinarySearch.upperBound(array, from, to, value, comparator)
+                : MyBinarySearch.lowerBound(array, from, to, value, comparator);
+    }
+
+    /**
+     * The state of a single sort: the stack of runs waiting to be merged and the buffer the merges use.
+     * @param <T> The type of values in the array.
+     */
+    private static final class Merger<T> {
+        private final T[] array;
+        private final int from;
+        private final int to;
+        private final Comparator<? super T> comparator;
+
+        /**
+         * The starts and boundary powers of the runs on the stack, each run ends where the next one (or the current
+         *  run) starts. The powers on the stack strictly increase and never exceed 32, so it never holds more than 32
+         *  runs.
+         */
+        private final int[] runStarts = new int[32];
+        private final int[] runPowers = new int[32];
+        private int runCount = 0;
+
+        private T[] buffer;
+
+        @SuppressWarnings("unchecked")
+        private Merger(final T[] array, final int from, final int to, final Comparator<? super T> comparator) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+
+            // Only grown once a merge needs it, the runs might not need merging at all.
+            buffer = (T[]) Array.newInstance(array.getClass().getComponentType(), 0);
+        }
+
+        /**
+         * Push the run [start, end) onto the stack, now that the run after it ends at the given index. Every run on
+         *  the stack whose boundary is deeper than the one between these two is merged first.
+         */
+        private void pushRun(int start, final int end, final int nextEnd) {
+            final int power = power(start, end, nextEnd);
+
+            while (runCount > 0 && runPowers[runCount - 1] > power) {
+                final int previousStart = runStarts[--runCount];
+                merge(previousStart, start, end);
+                start = previousStart;
+            }
+
+            runStarts[runCount] = start;
+            runPowers[runCount] = power;
+            ++runCount;
+        }
+
+        /**
+         * Merge all the runs on the stack with the last run, which starts at the given index.
+         */
+        private void mergeAll(int start) {
+            while (runCount > 0) {
+                final int previousStart = runStarts[--runCount];
+                merge(previousStart, start, to);
+                start = previousStart;
+            }
+        }
+
+        /**
+         * Compute the power of the boundary between the runs [start, end) and [end, nextEnd): the first bit in which
+         *  the positions of their midpoints within the range differ, as 32 bit fractions.
+         */
+        private int power(final int start, final int end, final int nextEnd) {
+            final long length = to - from;
+
+            // Twice the midpoints, so they're whole, which cancels out against twice the length.
+            final long left = (((long) start - from) + (end - from) << 31) / length;
+            final long right = (((long) end - from) + (nextEnd - from) << 31) / length;
+
+            return Long.numberOfLeadingZeros(left ^ right) - 31;
+        }
+
+        /**
+         * Merge the adjacent sorted runs [low, mid) and [mid, high), buffering the shorter one.
+         */
+        private void merge(int low, final int mid, int high) {
+            // The values of the left run that aren't greater than the first value of the right run are already in
+            //  place, just like the values of the right run that aren't less than the last value of the left run.
+            low = searchFromStart(array, low, mid, array[mid], true, comparator);
+            if (low == mid) {
+                return;
+            }
+
+            high = searchFromEnd(array, mid, high, array[mid - 1], false, comparator);
+
+            if (mid - low <= high - mid) {
+                mergeForward(low, mid, high);
+            } else {
+                mergeBackward(low, mid, high);
+            }
+        }
+
+        /**
+         * Merge by buffering the left run and filling the range from the start.
+         */
+        private void mergeForward(final int low, final int mid, final int high) {
+            final int leftLength = mid - low;
+            final T[] buffer = buffer(leftLength);
+            System.arraycopy(array, low, buffer, 0, leftLength);
+
+            int left = 0;
+            int right = mid;
+            int target = low;
+            int leftStreak = 0;
+            int rightStreak = 0;
+
+            while (left < leftLength && right < high) {
+                // On ties the left value goes first, which keeps the sort stable.
+                if (comparator.compare(array[right], buffer[left]) < 0) {
+                    array[target++] = array[right++];
+                    leftStreak = 0;
+
+                    if (++rightStreak == GALLOP_STREAK) {
+                        final int end = searchFromStart(array, right, high, buffer[left], false, comparator);
+                        System.arraycopy(array, right, array, target, end - right);
+                        target += end - right;
+                        right = end;
+                        rightStreak = 0;
+                    }
+                } else {
+                    array[target++] = buffer[left++];
+                    rightStreak = 0;
+
+                    if (++leftStreak == GALLOP_STREAK) {
+                        final int end = searchFromStart(buffer, left, leftLength, array[right], true, comparator);
+                        System.arraycopy(buffer, left, array, target, end - left);
+                        target += end - left;
+                        left = end;
+                        leftStreak = 0;
+                    }
+                }
+            }
+
+            // Whatever is left of the right run is already in place.
+            System.arraycopy(buffer, left, array, target, leftLength - left);
+        }
+
+        /**
+         * Merge by buffering the right run and filling the range from the end.
+         */
+        private void mergeBackward(final int low, final int mid, final int high) {
+            final int rightLength = high - mid;
+            final T[] buffer = buffer(rightLength);
+            System.arraycopy(array, mid, buffer, 0, rightLength);
+
+            int left = mid;
+            int right = rightLength;
+            int target = high;
+            int leftStreak = 0;
+            int rightStreak = 0;
+
+            while (left > low && right > 0) {
+                // On ties the right value goes last, which keeps the sort stable.
+                if (comparator.compare(buffer[right - 1], array[left - 1]) < 0) {
+                    array[--target] = array[--left];
+                    rightStreak = 0;
+
+                    if (++leftStreak == GALLOP_STREAK) {
+                        final int start = searchFromEnd(array, low, left, buffer[right - 1], true, comparator);
+                        target -= left - start;
+                        System.arraycopy(array, start, array, target, left - start);
+                        left = start;
+                        leftStreak = 0;
+                    }
+                } else {
+                    array[--target] = buffer[--right];
+                    leftStreak = 0;
+
+                    if (++rightStreak == GALLOP_STREAK) {
+                        final int start = searchFromEnd(buffer, 0, right, array[left - 1], false, comparator);
+                        target -= right - start;
+                        System.arraycopy(buffer, start, array, target, right - start);
+                        right = start;
+                        rightStreak = 0;
+                    }
+                }
+            }
+
+            // Whatever is left of the left run is already in place.
+            System.arraycopy(buffer, 0, array, low, right);
+        }
+
+        /**
+         * Get a buffer that can hold at least the given number of values. It grows geometrically, but never beyond
+         *  half the range, the longest run a merge ever buffers.
+         */
+        @SuppressWarnings("unchecked")
+        private T[] buffer(final int length) {
+            if (buffer.length < length) {
+                final int capacity = Math.max(length, Math.min(buffer.length * 2, (to - from) / 2));
+                buffer = (T[]) Array.newInstance(array.getClass().getComponentType(), capacity);
+            }
+
+            return buffer;
+        }
+    }
+}
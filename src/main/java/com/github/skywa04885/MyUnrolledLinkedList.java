@@ -0,0 +1,265 @@
+package com.github.skywa04885;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * My implementation of an unrolled linked list, a linked list of which every node holds a small array of values.
+ * <p>
+ * Compared to a linked list with a node per value, the values of a node are adjacent in memory, so walking the list
+ *  mostly reads consecutive memory instead of chasing a pointer per value, and the overhead of a node is shared by
+ *  all its values. Getting a value by index skips whole nodes at once, by their number of values.
+ * <p>
+ * Values are appended to the last node until it's full. When a removal leaves a node with so few values that it fits
+ *  together with the previous or the next node, the two are merged, so every pair of adjacent nodes is more than full
+ *  for one node, and the nodes are on average more than half full.
+ * @param <T> The type of value to be stored in the list.
+ */
+public class MyUnrolledLinkedList<T> implements MyList<T> {
+    /**
+     * The default maximum number of values in a node.
+     */
+    public static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private static class Node {
+        private final Object[] values;
+        private int count;
+        private Node nextNode;
+
+        public Node(final int capacity) {
+            this.values = new Object[capacity];
+        }
+    }
+
+    private final int nodeCapacity;
+    private Node head;
+    private Node tail;
+    private int size = 0;
+
+    public MyUnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Create an unrolled linked list.
+     * @param nodeCapacity The maximum number of values in a node.
+     */
+    public MyUnrolledLinkedList(final int nodeCapacity) {
+        if (nodeCapacity < 1) {
+            throw new IllegalArgumentException("Node capacity must be at least one");
+        }
+
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Get the number of nodes holding the values, which is less than two per full node's worth of values.
+     * @return The number of nodes.
+     */
+    public int nodeCount() {
+        int count = 0;
+
+        for (Node node = head; node != null; node = node.nextNode) {
+            ++count;
+        }
+
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int indexOf(final T value) {
+        int index = 0;
+
+        for (Node node = head; node != null; node = node.nextNode) {
+            final Object[] values = node.values;
+            final int count = node.count;
+
+            for (int i = 0; i < count; ++i) {
+                if (Objects.equals(values[i], value)) {
+                    return index + i;
+                }
+            }
+
+            index += count;
+        }
+
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        } else if (index >= size) {
+            throw new IndexOutOfBoundsException("Index is out of bounds");
+        }
+
+        // Skip whole nodes until the one containing the index.
+        Node node = head;
+        int offset = index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            node = node.nextNode;
+        }
+
+        return (T) node.values[offset];
+    }
+
+    @Override
+    @SafeVarargs
+    public final void addAll(final T... values) {
+        for (final T value : values) {
+            add(value);
+        }
+    }
+
+    @Override
+    public void add(final T value) {
+        if (isEmpty()) {
+            assert tail == null && head == null : "If the list is empty, both head and tail must be null";
+            head = tail = new Node(nodeCapacity);
+        } else if (tail.count == nodeCapacity) {
+            tail.nextNode = new Node(nodeCapacity);
+            tail = tail.nextNode;
+        }
+
+        tail.values[tail.count++] = value;
+        ++size;
+    }
+
+    @Override
+    public boolean remove(final T value) {
+        Node previous = null;
+        Node node = head;
+
+        while (node != null) {
+            for (int i = 0; i < node.count; ++i) {
+                if (Objects.equals(node.values[i], value)) {
+                    removeAt(previous, node, i);
+                    return true;
+                }
+            }
+
+            previous = node;
+            node = node.nextNode;
+        }
+
+        return false;
+    }
+
+    /**
+     * Remove the value at the given offset in the given node, and unlink or merge the node if it got too small.
+     * @param previous The node before the node, or null if the node is the head.
+     * @param node The node to remove the value from.
+     * @param offset The offset of the value in the node.
+     */
+    private void removeAt(final Node previous, final Node node, final int offset) {
+        System.arraycopy(node.values, offset + 1, node.values, offset, node.count - offset - 1);
+        node.values[--node.count] = null;
+        --size;
+
+        // A removal only changes the pairs the node is part of, so it's enough to check its neighbours.
+        if (previous != null && previous.count + node.count <= nodeCapacity) {
+            // Merge this node into the previous one, which also unlinks it if it's empty.
+            System.arraycopy(node.values, 0, previous.values, previous.count, node.count);
+            previous.count += node.count;
+            previous.nextNode = node.nextNode;
+
+            if (tail == node) {
+                tail = previous;
+            }
+        } else if (node.count == 0) {
+            // Unlink the empty head.
+            head = node.nextNode;
+
+            if (tail == node) {
+                tail = null;
+            }
+        } else if (node.nextNode != null && node.count + node.nextNode.count <= nodeCapacity) {
+            // Merge the next node into this one.
+            final Node next = node.nextNode;
+            System.arraycopy(next.values, 0, node.values, node.count, next.count);
+            node.count += next.count;
+            node.nextNode = next.nextNode;
+
+            if (tail == next) {
+                tail = node;
+            }
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node node = head;
+            private int offset = 0;
+
+            @Override
+            public boolean hasNext() {
+                return node != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (node == null) {
+                    throw new NoSuchElementException();
+                }
+
+                final T value = (T) node.values[offset++];
+                if (offset == node.count) {
+                    node = node.nextNode;
+                    offset = 0;
+                }
+                return value;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+
+        for (Node node = head; node != null; node = node.nextNode) {
+            for (int i = 0; i < node.count; ++i) {
+                builder.append(node.values[i]);
+                if (i < node.count - 1 || node.nextNode != null) {
+                    builder.append(", ");
+                }
+            }
+        }
+
+        builder.append("}");
+
+        return builder.toString();
+    }
+
+    @Override
+    public T[] toArray(final T[] x) {
+        @SuppressWarnings("unchecked")
+        final T[] array = (T[]) java.lang.reflect.Array.newInstance(
+                x.getClass().getComponentType(), size
+        );
+
+        int i = 0;
+
+        for (Node node = head; node != null; node = node.nextNode) {
+            System.arraycopy(node.values, 0, array, i, node.count);
+            i += node.count;
+        }
+
+        return array;
+    }
+}
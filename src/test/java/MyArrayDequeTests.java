@@ -0,0 +1,94 @@
+import com.github.skywa04885.MyArrayDeque;
+import com.github.skywa04885.MyList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MyArrayDeque Tests")
+public class MyArrayDequeTests implements MyListTests {
+    @Override
+    public MyList<Integer> createList() {
+        // A small capacity, so the shared tests wrap around and grow.
+        return new MyArrayDeque<>(2);
+    }
+
+    @Test
+    @DisplayName("Should offer and poll in order")
+    public void shouldOfferAndPollInOrder() {
+        final MyArrayDeque<Integer> queue = new MyArrayDeque<>(4);
+
+        // Keep the queue within its capacity while the head goes around the array several times.
+        for (int i = 0; i < 100; ++i) {
+            queue.offer(i);
+            queue.offer(i + 1000);
+            assertThat(queue.peek()).contains(i);
+            assertThat(queue.poll()).contains(i);
+            assertThat(queue.poll()).contains(i + 1000);
+        }
+
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isEmpty();
+        assertThat(queue.peek()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should behave like a deque")
+    public void shouldBehaveLikeADeque() {
+        final Random random = new Random(42);
+        final MyArrayDeque<Integer> deque = new MyArrayDeque<>(1);
+        final Deque<Integer> expected = new ArrayDeque<>();
+
+        for (int i = 0; i < 5000; ++i) {
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    deque.addFirst(i);
+                    expected.addFirst(i);
+                }
+                case 1 -> {
+                    deque.addLast(i);
+                    expected.addLast(i);
+                }
+                case 2 -> assertThat(deque.pollFirst()).isEqualTo(Optional.ofNullable(expected.pollFirst()));
+                case 3 -> assertThat(deque.pollLast()).isEqualTo(Optional.ofNullable(expected.pollLast()));
+                default -> {
+                    final Integer value = expected.isEmpty() ? -1 : expected.toArray(new Integer[0])[
+                            random.nextInt(expected.size())];
+                    assertThat(deque.remove(value)).isEqualTo(expected.removeFirstOccurrence(value));
+                }
+            }
+
+            assertThat(deque.peekFirst()).isEqualTo(Optional.ofNullable(expected.peekFirst()));
+            assertThat(deque.peekLast()).isEqualTo(Optional.ofNullable(expected.peekLast()));
+        }
+
+        final Integer[] values = expected.toArray(new Integer[0]);
+        assertThat(deque.size()).isEqualTo(values.length);
+        assertThat(deque.toArray(new Integer[0])).isEqualTo(values);
+
+        final List<Integer> iterated = new ArrayList<>();
+        deque.forEach(iterated::add);
+        assertThat(iterated).isEqualTo(List.of(values));
+        for (int i = 0; i < values.length; ++i) {
+            assertThat(deque.get(i)).isEqualTo(values[i]);
+            assertThat(deque.indexOf(values[i])).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw when capacity is out of range")
+    public void shouldThrowWhenCapacityIsOutOfRange() {
+        assertThatThrownBy(() -> new MyArrayDeque<Integer>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MyArrayDeque<Integer>((1 << 30) + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
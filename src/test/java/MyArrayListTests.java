@@ -1,6 +1,14 @@
 import com.github.skywa04885.MyArrayList;
+import com.github.skywa04885.MyBinarySearch;
 import com.github.skywa04885.MyList;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("MyArrayList Tests")
 public class MyArrayListTests implements MyListTests {
@@ -8,4 +16,130 @@ public class MyArrayListTests implements MyListTests {
     public MyList<Integer> createList() {
         return new MyArrayList<>(Integer.class);
     }
+
+    @Test
+    @DisplayName("Should search ranges of sorted list")
+    public void shouldSearchRangesOfSortedList() {
+        final MyArrayList<Integer> list = new MyArrayList<>(Integer.class, 4);
+        list.addAll(1, 3, 3, 3, 7, 9, 12);
+
+        assertThat(list.lowerBound(3, Comparator.naturalOrder())).isEqualTo(1);
+        assertThat(list.upperBound(3, Comparator.naturalOrder())).isEqualTo(4);
+        assertThat(list.equalRange(3, Comparator.naturalOrder())).isEqualTo(new MyBinarySearch.Range(1, 4));
+        assertThat(list.equalRange(5, Comparator.naturalOrder()).isEmpty()).isTrue();
+        assertThat(list.searchRange(2, 9, Comparator.naturalOrder())).isEqualTo(new MyBinarySearch.Range(1, 6));
+        assertThat(list.searchRange(13, 20, Comparator.naturalOrder())).isEqualTo(new MyBinarySearch.Range(7, 7));
+    }
+
+    @Test
+    @DisplayName("Should split evenly")
+    public void shouldSplitEvenly() {
+        final MyArrayList<Integer> list = new MyArrayList<>(Integer.class);
+        for (int i = 0; i < 1000; ++i) list.add(i);
+
+        final Spliterator<Integer> spliterator = list.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.estimateSize()).isEqualTo(1000);
+
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix.estimateSize()).isEqualTo(500);
+        assertThat(spliterator.estimateSize()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Should add many values at once")
+    public void shouldAddManyValuesAtOnce() {
+        final MyArrayList<Integer> list = new MyArrayList<>(Integer.class, 2);
+        final Integer[] values = new Integer[100];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = i;
+        }
+
+        list.add(-1);
+        list.addAll(values);
+        list.addAll();
+
+        assertThat(list.size()).isEqualTo(101);
+        assertThat(list.get(0)).isEqualTo(-1);
+        assertThat(list.get(100)).isEqualTo(99);
+    }
+
+    @Test
+    @DisplayName("Should insert value at index")
+    public void shouldInsertValueAtIndex() {
+        final MyArrayList<Integer> list = new MyArrayList<>(Integer.class, 3);
+        list.addAll(1, 2, 3);
+
+        list.add(0, 0);
+        list.add(2, 42);
+        list.add(5, 4);
+
+        assertThat(list.toArray(new Integer[0])).containsExactly(0, 1, 42, 2, 3, 4);
+        assertThatThrownBy(() -> list.add(7, 5))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.add(-1, 5))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Should remove value at index")
+    public void shouldRemoveValueAtIndex() {
+        final MyArrayList<Integer> list = new MyArrayList<>(Integer.class);
+        list.addAll(10, 20, 30, 40);
+
+        assertThat(list.removeAt(1)).isEqualTo(20);
+        assertThat(list.removeAt(2)).isEqualTo(40);
+
+        assertThat(list.toArray(new Integer[0])).containsExactly(10, 30);
+        assertThatThrownBy(() -> list.removeAt(2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Should remove range of values")
+    public void shouldRemoveRangeOfValues() {
+        final MyArrayList<Integer> list = new MyArrayList<>(Integer.class);
+        list.addAll(0, 1, 2, 3, 4, 5, 6);
+
+        list.removeRange(2, 5);
+        list.removeRange(1, 1);
+
+        assertThat(list.toArray(new Integer[0])).containsExactly(0, 1, 5, 6);
+        assertThatThrownBy(() -> list.removeRange(3, 5))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+
+        list.removeRange(0, list.size());
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should remove values matching predicate")
+    public void shouldRemoveValuesMatchingPredicate() {
+        final MyArrayList<Integer> list = new MyArrayList<>(Integer.class);
+        list.addAll(1, 2, 3, 4, 5, 6, 7);
+
+        assertThat(list.removeIf(value -> value % 2 == 0)).isTrue();
+        assertThat(list.removeIf(value -> value > 100)).isFalse();
+
+        assertThat(list.toArray(new Integer[0])).containsExactly(1, 3, 5, 7);
+    }
+
+    @Test
+    @DisplayName("Should keep values when changing capacity")
+    public void shouldKeepValuesWhenChangingCapacity() {
+        final MyArrayList<Integer> list = new MyArrayList<>(Integer.class);
+        list.addAll(1, 2, 3);
+
+        list.ensureCapacity(1000);
+        list.trimToSize();
+        list.add(4);
+        list.trimToSize();
+
+        assertThat(list.toArray(new Integer[0])).containsExactly(1, 2, 3, 4);
+
+        final MyArrayList<Integer> empty = new MyArrayList<>(Integer.class);
+        empty.trimToSize();
+        empty.add(1);
+        assertThat(empty.get(0)).isEqualTo(1);
+    }
 }
@@ -2,24 +2,29 @@ import com.github.skywa04885.MyBinarySearch;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("MyBinarySearch Tests")
 public class MyBinarySearchTests {
     @Test
     @DisplayName("Should find in even array")
     public void shouldFindInEvenArray() {
-        final Integer[] sorted = { 100, 40, 20, 10, 5, 2, -8, -100 };
+        final Integer[] sorted = { -100, -8, 2, 5, 10, 20, 40, 100 };
 
         final int index = MyBinarySearch.binarySearch(sorted, 10);
 
-        assertThat(index).isEqualTo(3);
+        assertThat(index).isEqualTo(4);
     }
 
     @Test
     @DisplayName("Should find in odd array")
     public void shouldFindInOddArray() {
-        final Integer[] sorted = { 100, 40, 20, 10, 5, 2, -8 };
+        final Integer[] sorted = { -8, 2, 5, 10, 20, 40, 100 };
 
         final int index = MyBinarySearch.binarySearch(sorted, 10);
 
@@ -29,7 +34,7 @@ public class MyBinarySearchTests {
     @Test
     @DisplayName("Should return negative one if not in array")
     public void shouldReturnNegativeOneIfNotInArray() {
-        final Integer[] sorted = { 100, 40, 20, 10, 5, 2, -8 };
+        final Integer[] sorted = { -8, 2, 5, 10, 20, 40, 100 };
 
         final int index = MyBinarySearch.binarySearch(sorted, -6);
 
@@ -45,4 +50,213 @@ public class MyBinarySearchTests {
 
         assertThat(index).isEqualTo(-1);
     }
+
+    @Test
+    @DisplayName("Should find every value of the array")
+    public void shouldFindEveryValueOfTheArray() {
+        final Integer[] sorted = { -100, -8, 2, 5, 10, 20, 40, 100 };
+
+        for (int i = 0; i < sorted.length; ++i) {
+            assertThat(MyBinarySearch.binarySearch(sorted, sorted[i])).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should find lower bound in primitive arrays")
+    public void shouldFindLowerBoundInPrimitiveArrays() {
+        final int[] ints = { -8, 2, 5, 5, 5, 20, 40 };
+        final long[] longs = { -8L, 2L, 5L, 5L, 5L, 20L, 40L };
+
+        assertThat(MyBinarySearch.lowerBound(ints, 5)).isEqualTo(2);
+        assertThat(MyBinarySearch.lowerBound(ints, 6)).isEqualTo(5);
+        assertThat(MyBinarySearch.lowerBound(ints, -100)).isEqualTo(0);
+        assertThat(MyBinarySearch.lowerBound(ints, 100)).isEqualTo(7);
+        assertThat(MyBinarySearch.lowerBound(new int[0], 1)).isEqualTo(0);
+
+        assertThat(MyBinarySearch.lowerBound(longs, 5L)).isEqualTo(2);
+        assertThat(MyBinarySearch.lowerBound(longs, 6L)).isEqualTo(5);
+        assertThat(MyBinarySearch.lowerBound(longs, 100L)).isEqualTo(7);
+        assertThat(MyBinarySearch.lowerBound(new long[0], 1L)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should search primitive arrays")
+    public void shouldSearchPrimitiveArrays() {
+        final int[] ints = { -8, 2, 5, 5, 5, 20, 40 };
+        final long[] longs = { -8L, 2L, 5L, 5L, 5L, 20L, 40L };
+
+        assertThat(MyBinarySearch.binarySearch(ints, 20)).isEqualTo(5);
+        assertThat(MyBinarySearch.binarySearch(ints, 5)).isEqualTo(2);
+        assertThat(MyBinarySearch.binarySearch(ints, 6)).isEqualTo(-1);
+        assertThat(MyBinarySearch.binarySearch(ints, 100)).isEqualTo(-1);
+
+        assertThat(MyBinarySearch.binarySearch(longs, -8L)).isEqualTo(0);
+        assertThat(MyBinarySearch.binarySearch(longs, 6L)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should search index like a sorted array")
+    public void shouldSearchIndexLikeASortedArray() {
+        final Random random = new Random(42);
+
+        // Cover both complete and incomplete trees.
+        for (int size = 0; size <= 64; ++size) {
+            final int[] sorted = new int[size];
+            for (int i = 0; i < size; ++i) {
+                sorted[i] = random.nextInt(32);
+            }
+            Arrays.sort(sorted);
+
+            final MyBinarySearch.SearchIndex index = new MyBinarySearch.SearchIndex(sorted);
+
+            assertThat(index.size()).isEqualTo(size);
+            for (int value = -1; value <= 32; ++value) {
+                assertThat(index.lowerBound(value)).isEqualTo(MyBinarySearch.lowerBound(sorted, value));
+                assertThat(index.binarySearch(value)).isEqualTo(MyBinarySearch.binarySearch(sorted, value));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should find bounds of value")
+    public void shouldFindBoundsOfValue() {
+        final Integer[] sorted = { -8, 2, 5, 5, 5, 20, 40 };
+
+        assertThat(MyBinarySearch.lowerBound(sorted, 5)).isEqualTo(2);
+        assertThat(MyBinarySearch.upperBound(sorted, 5)).isEqualTo(5);
+        assertThat(MyBinarySearch.lowerBound(sorted, 6)).isEqualTo(5);
+        assertThat(MyBinarySearch.upperBound(sorted, 6)).isEqualTo(5);
+        assertThat(MyBinarySearch.lowerBound(sorted, -100)).isEqualTo(0);
+        assertThat(MyBinarySearch.upperBound(sorted, 100)).isEqualTo(7);
+        assertThat(MyBinarySearch.lowerBound(new Integer[0], 1)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should find bounds with comparator")
+    public void shouldFindBoundsWithComparator() {
+        final Integer[] sorted = { 40, 20, 5, 5, 5, 2, -8 };
+
+        assertThat(MyBinarySearch.lowerBound(sorted, 5, Comparator.reverseOrder())).isEqualTo(2);
+        assertThat(MyBinarySearch.upperBound(sorted, 5, Comparator.reverseOrder())).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should find equal range")
+    public void shouldFindEqualRange() {
+        final Integer[] sorted = { -8, 2, 5, 5, 5, 20, 40 };
+        final int[] ints = { -8, 2, 5, 5, 5, 20, 40 };
+        final long[] longs = { -8L, 2L, 5L, 5L, 5L, 20L, 40L };
+
+        assertThat(MyBinarySearch.equalRange(sorted, 5)).isEqualTo(new MyBinarySearch.Range(2, 5));
+        assertThat(MyBinarySearch.equalRange(sorted, 5).size()).isEqualTo(3);
+        assertThat(MyBinarySearch.equalRange(sorted, 6)).isEqualTo(new MyBinarySearch.Range(5, 5));
+        assertThat(MyBinarySearch.equalRange(sorted, 6).isEmpty()).isTrue();
+
+        assertThat(MyBinarySearch.equalRange(ints, 5)).isEqualTo(new MyBinarySearch.Range(2, 5));
+        assertThat(MyBinarySearch.equalRange(longs, 40L)).isEqualTo(new MyBinarySearch.Range(6, 7));
+    }
+
+    @Test
+    @DisplayName("Should search range of values")
+    public void shouldSearchRangeOfValues() {
+        final Integer[] sorted = { -8, 2, 5, 5, 5, 20, 40 };
+        final long[] longs = { -8L, 2L, 5L, 5L, 5L, 20L, 40L };
+
+        assertThat(MyBinarySearch.searchRange(sorted, 2, 20)).isEqualTo(new MyBinarySearch.Range(1, 6));
+        assertThat(MyBinarySearch.searchRange(sorted, 3, 19)).isEqualTo(new MyBinarySearch.Range(2, 5));
+        assertThat(MyBinarySearch.searchRange(sorted, -100, 100)).isEqualTo(new MyBinarySearch.Range(0, 7));
+        assertThat(MyBinarySearch.searchRange(sorted, 6, 19).isEmpty()).isTrue();
+        assertThat(MyBinarySearch.searchRange(sorted, 20, 2).isEmpty()).isTrue();
+
+        assertThat(MyBinarySearch.searchRange(longs, 0L, 5L)).isEqualTo(new MyBinarySearch.Range(1, 5));
+        assertThat(MyBinarySearch.searchRange(new int[] { 1, 2, 3 }, 3, 1).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should find lower bound by exponential search")
+    public void shouldFindLowerBoundByExponentialSearch() {
+        final Random random = new Random(42);
+        final Integer[] sorted = new Integer[1000];
+        for (int i = 0; i < sorted.length; ++i) {
+            sorted[i] = random.nextInt(500);
+        }
+        Arrays.sort(sorted);
+
+        for (int value = -1; value <= 500; ++value) {
+            assertThat(MyBinarySearch.exponentialSearch(sorted, value))
+                    .isEqualTo(MyBinarySearch.lowerBound(sorted, value));
+        }
+
+        // Search from the middle of the array.
+        assertThat(MyBinarySearch.exponentialSearch(sorted, 500, 1000, 0, Comparator.naturalOrder()))
+                .isEqualTo(500);
+        assertThat(MyBinarySearch.exponentialSearch(sorted, 500, 1000, 1000, Comparator.naturalOrder()))
+                .isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Should throw when search range is out of bounds")
+    public void shouldThrowWhenSearchRangeIsOutOfBounds() {
+        final Integer[] sorted = { -8, 2, 5 };
+
+        assertThatThrownBy(() -> MyBinarySearch.lowerBound(sorted, 0, 4, 2, Comparator.naturalOrder()))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> MyBinarySearch.exponentialSearch(sorted, 2, 1, 2, Comparator.naturalOrder()))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Should search for batch of queries")
+    public void shouldSearchForBatchOfQueries() {
+        final Random random = new Random(42);
+
+        // Few queries take the lockstep searches, many queries the merge.
+        for (final int count : new int[] { 0, 1, 7, 37, 5000 }) {
+            final int[] array = random.ints(1000, 0, 2000).sorted().toArray();
+            final int[] queries = random.ints(count, -1, 2001).sorted().toArray();
+            final long[] longArray = Arrays.stream(array).asLongStream().toArray();
+            final long[] longQueries = Arrays.stream(queries).asLongStream().toArray();
+            final Integer[] boxedArray = Arrays.stream(array).boxed().toArray(Integer[]::new);
+            final Integer[] boxedQueries = Arrays.stream(queries).boxed().toArray(Integer[]::new);
+
+            final int[] expectedBounds = new int[count];
+            final int[] expectedIndices = new int[count];
+            for (int q = 0; q < count; ++q) {
+                expectedBounds[q] = MyBinarySearch.lowerBound(array, queries[q]);
+                expectedIndices[q] = MyBinarySearch.binarySearch(array, queries[q]);
+            }
+
+            assertThat(MyBinarySearch.lowerBounds(array, queries)).isEqualTo(expectedBounds);
+            assertThat(MyBinarySearch.lowerBounds(longArray, longQueries)).isEqualTo(expectedBounds);
+            assertThat(MyBinarySearch.lowerBounds(boxedArray, boxedQueries)).isEqualTo(expectedBounds);
+            assertThat(MyBinarySearch.binarySearchAll(array, queries)).isEqualTo(expectedIndices);
+            assertThat(MyBinarySearch.binarySearchAll(longArray, longQueries)).isEqualTo(expectedIndices);
+            assertThat(MyBinarySearch.binarySearchAll(boxedArray, boxedQueries)).isEqualTo(expectedIndices);
+        }
+    }
+
+    @Test
+    @DisplayName("Should search for batch of queries past end of array")
+    public void shouldSearchForBatchOfQueriesPastEndOfArray() {
+        final int[] array = new int[1000];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = i;
+        }
+        final int[] queries = { 998, 999, 1000, 1001, 1002, 1003, 1004, 1005, 1006, 1007, 1008 };
+
+        assertThat(MyBinarySearch.lowerBounds(array, queries))
+                .isEqualTo(new int[] { 998, 999, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000 });
+        assertThat(MyBinarySearch.lowerBounds(new int[0], queries)).containsOnly(0);
+    }
+
+    @Test
+    @DisplayName("Should throw when batch of queries is not sorted")
+    public void shouldThrowWhenBatchOfQueriesIsNotSorted() {
+        final int[] array = { 1, 2, 3 };
+
+        assertThatThrownBy(() -> MyBinarySearch.lowerBounds(array, new int[] { 2, 1 }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MyBinarySearch.binarySearchAll(new Integer[] { 1, 2, 3 }, new Integer[] { 3, 1 }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,137 @@
+import com.github.skywa04885.MyConcurrentHashTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MyConcurrentHashTable Tests")
+class MyConcurrentHashTableTests {
+    private static final int THREADS = 8;
+
+    @Test
+    @DisplayName("should insert, overwrite, retrieve and delete values")
+    void shouldInsertOverwriteRetrieveAndDeleteValues() {
+        final MyConcurrentHashTable<String, Integer> table = new MyConcurrentHashTable<>();
+
+        table.insert("A", 1);
+        table.insert("B", 2);
+        table.insert("A", 3);
+
+        assertThat(table.get("A")).contains(3);
+        assertThat(table.get("B")).contains(2);
+        assertThat(table.get("missing")).isEmpty();
+        assertThat(table.size()).isEqualTo(2);
+
+        assertThat(table.delete("A")).contains(3);
+        assertThat(table.delete("A")).isEmpty();
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should retain entries when growing")
+    void shouldRetainEntriesWhenGrowing() {
+        final MyConcurrentHashTable<Integer, Integer> table = new MyConcurrentHashTable<>(1);
+
+        for (int i = 0; i < 10_000; i++) {
+            table.insert(i, i);
+        }
+
+        assertThat(table.loadFactor()).isLessThanOrEqualTo(0.75);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(table.get(i)).contains(i);
+        }
+    }
+
+    @Test
+    @DisplayName("should reject null keys and values")
+    void shouldRejectNullKeysAndValues() {
+        final MyConcurrentHashTable<String, String> table = new MyConcurrentHashTable<>();
+
+        assertThatThrownBy(() -> table.insert(null, "value")).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> table.insert("key", null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("should not lose concurrent insertions while growing")
+    void shouldNotLoseConcurrentInsertionsWhileGrowing() throws Exception {
+        final MyConcurrentHashTable<Integer, Integer> table = new MyConcurrentHashTable<>(2);
+        final int perThread = 20_000;
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < perThread; i++) {
+                final int key = thread * perThread + i;
+                table.insert(key, key);
+
+                // Read back an earlier key, which might be in the middle of being moved.
+                final int earlier = thread * perThread + i / 2;
+                assertThat(table.getOrDefault(earlier, null)).isEqualTo(earlier);
+            }
+        });
+
+        assertThat(table.size()).isEqualTo(THREADS * perThread);
+        for (int key = 0; key < THREADS * perThread; key++) {
+            assertThat(table.getOrDefault(key, null)).isEqualTo(key);
+        }
+    }
+
+    @Test
+    @DisplayName("should stay consistent under concurrent insertions and deletions")
+    void shouldStayConsistentUnderConcurrentInsertionsAndDeletions() throws Exception {
+        final MyConcurrentHashTable<Integer, Integer> table = new MyConcurrentHashTable<>();
+        final int perThread = 10_000;
+
+        // Every thread inserts its own keys and deletes the odd ones again, while sharing buckets with the others.
+        runConcurrently(thread -> {
+            for (int i = 0; i < perThread; i++) {
+                table.insert(i * THREADS + thread, thread);
+            }
+            for (int i = 1; i < perThread; i += 2) {
+                assertThat(table.delete(i * THREADS + thread)).contains(thread);
+            }
+        });
+
+        assertThat(table.size()).isEqualTo(THREADS * perThread / 2);
+        for (int i = 0; i < perThread; i++) {
+            for (int thread = 0; thread < THREADS; thread++) {
+                assertThat(table.get(i * THREADS + thread).isPresent()).isEqualTo(i % 2 == 0);
+            }
+        }
+    }
+
+    private interface ThreadBody {
+        void run(int thread) throws Exception;
+    }
+
+    private static void runConcurrently(final ThreadBody body) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                final int id = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    body.run(id);
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+import com.github.skywa04885.MyConcurrentQueue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Interface containing all the tests for concurrent queue implementations.
+ */
+public interface MyConcurrentQueueTests {
+    /**
+     * Create a queue that can hold at least the given number of values.
+     */
+    MyConcurrentQueue<Integer> createQueue(final int capacity);
+
+    /**
+     * The number of threads that may offer to the queue at once.
+     */
+    int producerCount();
+
+    @Test
+    @DisplayName("Should be empty when created")
+    default void shouldBeEmptyWhenCreated() {
+        final MyConcurrentQueue<Integer> queue = createQueue(4);
+
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isEqualTo(0);
+        assertThat(queue.poll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should poll values in order")
+    default void shouldPollValuesInOrder() {
+        final MyConcurrentQueue<Integer> queue = createQueue(4);
+
+        // Go around the buffer several times.
+        for (int i = 0; i < 100; ++i) {
+            assertThat(queue.offer(i)).isTrue();
+            assertThat(queue.offer(i + 1000)).isTrue();
+            assertThat(queue.size()).isEqualTo(2);
+            assertThat(queue.poll()).contains(i);
+            assertThat(queue.poll()).contains(i + 1000);
+        }
+
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should drain values in batches")
+    default void shouldDrainValuesInBatches() {
+        final MyConcurrentQueue<Integer> queue = createQueue(8);
+        for (int i = 0; i < 7; ++i) {
+            queue.offer(i);
+        }
+
+        final List<Integer> drained = new ArrayList<>();
+        assertThat(queue.drain(drained::add, 3)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+
+        queue.offer(7);
+        assertThat(queue.drain(drained::add)).isEqualTo(5);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+        assertThat(queue.drain(drained::add)).isEqualTo(0);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject a negative drain limit")
+    default void shouldRejectNegativeDrainLimit() {
+        final MyConcurrentQueue<Integer> queue = createQueue(4);
+        queue.offer(1);
+        queue.offer(2);
+
+        assertThatThrownBy(() -> queue.drain(value -> {}, -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.poll()).contains(1);
+        assertThat(queue.poll()).contains(2);
+        assertThat(queue.poll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject null values")
+    default void shouldRejectNullValues() {
+        final MyConcurrentQueue<Integer> queue = createQueue(4);
+
+        assertThatThrownBy(() -> queue.offer(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Should hand over all values between threads")
+    @Timeout(value = 60, unit = TimeUnit.SECONDS, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    default void shouldHandOverAllValuesBetweenThreads() throws Exception {
+        final int producers = producerCount();
+        final int valuesPerProducer = 200_000;
+        final MyConcurrentQueue<Integer> queue = createQueue(64);
+
+        try (final ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; ++p) {
+                final int producer = p;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < valuesPerProducer; ++i) {
+                        final Integer value = producer * valuesPerProducer + i;
+                        while (!queue.offer(value)) {
+                            Thread.yield();
+                        }
+                    }
+                }));
+            }
+
+            // Consume by alternating polls and drains, checking that every producer's values arrive in order.
+            final int[] next = new int[producers];
+            final int[] received = { 0 };
+            while (received[0] < producers * valuesPerProducer) {
+                final int before = received[0];
+
+                queue.poll().ifPresent(value -> {
+                    assertThat(value % valuesPerProducer).isEqualTo(next[value / valuesPerProducer]++);
+                    ++received[0];
+                });
+                queue.drain(value -> {
+                    assertThat(value % valuesPerProducer).isEqualTo(next[value / valuesPerProducer]++);
+                    ++received[0];
+                }, 16);
+
+                if (received[0] == before) {
+                    // Fail right away if a producer threw, instead of waiting for values that will never come.
+                    for (final Future<?> future : futures) {
+                        if (future.isDone()) {
+                            future.get();
+                        }
+                    }
+
+                    Thread.yield();
+                }
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
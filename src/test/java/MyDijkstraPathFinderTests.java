@@ -0,0 +1,75 @@
+import com.github.skywa04885.MyDijkstraPathFinder;
+import com.github.skywa04885.MyGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MyDijkstraPathFinder Tests")
+class MyDijkstraPathFinderTests {
+    @Test
+    @DisplayName("should find path over cheaper detour")
+    void shouldFindPathOverCheaperDetour() {
+        final MyGraph<String> graph = new MyGraph<>();
+
+        graph.addEdge("A", "B", 10);
+        graph.addEdge("A", "C", 1);
+        graph.addEdge("C", "D", 2);
+        graph.addEdge("D", "B", 3);
+        graph.addVertex("B");
+
+        final MyDijkstraPathFinder<String> pathFinder = new MyDijkstraPathFinder<>();
+        pathFinder.traverse(graph, "A");
+
+        assertThat(pathFinder.getPath("B")).containsExactly("A", "C", "D", "B");
+    }
+
+    @Test
+    @DisplayName("should update distance when shorter path is found later")
+    void shouldUpdateDistanceWhenShorterPathIsFoundLater() {
+        final MyGraph<Integer> graph = new MyGraph<>();
+
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(2, 1, 2);
+        graph.addEdge(1, 3, 1);
+        graph.addEdge(2, 3, 5);
+        graph.addVertex(3);
+
+        final MyDijkstraPathFinder<Integer> pathFinder = new MyDijkstraPathFinder<>();
+        pathFinder.traverse(graph, 0);
+
+        assertThat(pathFinder.getPath(1)).containsExactly(0, 2, 1);
+        assertThat(pathFinder.getPath(3)).containsExactly(0, 2, 1, 3);
+    }
+
+    @Test
+    @DisplayName("should only contain destination for unreachable vertex")
+    void shouldOnlyContainDestinationForUnreachableVertex() {
+        final MyGraph<String> graph = new MyGraph<>();
+
+        graph.addEdge("A", "B", 1);
+        graph.addEdge("C", "B", 1);
+        graph.addVertex("B");
+
+        final MyDijkstraPathFinder<String> pathFinder = new MyDijkstraPathFinder<>();
+        pathFinder.traverse(graph, "A");
+
+        assertThat(pathFinder.getPath("C")).containsExactly("C");
+        assertThat(pathFinder.getPath("B")).containsExactly("A", "B");
+    }
+
+    @Test
+    @DisplayName("should throw when origin vertex is not in graph")
+    void shouldThrowWhenOriginVertexIsNotInGraph() {
+        final MyGraph<String> graph = new MyGraph<>();
+
+        graph.addVertex("A");
+
+        final MyDijkstraPathFinder<String> pathFinder = new MyDijkstraPathFinder<>();
+
+        assertThatThrownBy(() -> pathFinder.traverse(graph, "Z"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
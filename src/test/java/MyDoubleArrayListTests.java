@@ -0,0 +1,34 @@
+import com.github.skywa04885.MyDoubleArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MyDoubleArrayList Tests")
+class MyDoubleArrayListTests {
+    @Test
+    @DisplayName("Should add, find and remove values")
+    void shouldAddFindAndRemoveValues() {
+        final MyDoubleArrayList list = new MyDoubleArrayList();
+
+        list.addAll(1.5, -2.25, 1.5);
+
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.get(1)).isEqualTo(-2.25);
+
+        assertThat(list.remove(1.5)).isTrue();
+
+        assertThat(list.toArray()).containsExactly(-2.25, 1.5);
+    }
+
+    @Test
+    @DisplayName("Should compare values like Double.equals")
+    void shouldCompareValuesLikeDoubleEquals() {
+        final MyDoubleArrayList list = new MyDoubleArrayList();
+
+        list.addAll(0.0, Double.NaN);
+
+        assertThat(list.indexOf(Double.NaN)).isEqualTo(1);
+        assertThat(list.indexOf(-0.0)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,44 @@
+import com.github.skywa04885.MyDoublePriorityQueue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MyDoublePriorityQueue Tests")
+class MyDoublePriorityQueueTests {
+    @Test
+    @DisplayName("Should dequeue values by priorities like Double.compare")
+    void shouldDequeueValuesByDoublePriorities() {
+        final MyDoublePriorityQueue<String> queue = new MyDoublePriorityQueue<>(2);
+
+        queue.enqueue(Double.NaN, "F");
+        queue.enqueue(0.0, "D");
+        queue.enqueue(-0.0, "C");
+        final int handle = queue.enqueue(2.5, "B");
+        queue.enqueue(Double.NEGATIVE_INFINITY, "A");
+        queue.enqueue(0.25, "E");
+
+        queue.updatePriority(handle, -1.5);
+
+        assertThat(queue.getPriority(handle)).isEqualTo(-1.5);
+        assertThat(queue.dequeue()).contains("A");
+        assertThat(queue.dequeue()).contains("B");
+        assertThat(queue.dequeue()).contains("C");
+        assertThat(queue.dequeue()).contains("D");
+        assertThat(queue.dequeue()).contains("E");
+        assertThat(queue.dequeue()).contains("F");
+        assertThat(queue.dequeue()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject increasing the priority through decrease key")
+    void shouldRejectIncreasingPriorityThroughDecreaseKey() {
+        final MyDoublePriorityQueue<String> queue = new MyDoublePriorityQueue<>();
+        final int handle = queue.enqueue(1.0, "A");
+
+        assertThatThrownBy(() -> queue.decreaseKey(handle, Double.NaN))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(queue.getPriority(handle)).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,39 @@
+import com.github.skywa04885.MyDualPivotQuickSort;
+import com.github.skywa04885.MyPrimitiveSorter;
+import com.github.skywa04885.MySorter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MyDualPivotQuickSort Tests")
+public class MyDualPivotQuickSortTests implements MySorterTests, MyPrimitiveSorterTests {
+    @Override
+    public MySorter createSortAlgorithm() {
+        return MyDualPivotQuickSort.getInstance();
+    }
+
+    @Override
+    public MyPrimitiveSorter createPrimitiveSorter() {
+        return MyDualPivotQuickSort.getInstance();
+    }
+
+    @Test
+    @DisplayName("Should sort large object arrays with many duplicates")
+    void shouldSortLargeObjectArrays() {
+        final Random random = new Random(42);
+
+        for (final int bound : new int[]{4, 1_000, Integer.MAX_VALUE}) {
+            final Integer[] unsorted = new Integer[50_000];
+            for (int i = 0; i < unsorted.length; i++) unsorted[i] = random.nextInt(bound);
+
+            final Integer[] expected = unsorted.clone();
+            Arrays.sort(expected);
+
+            assertThat(MyDualPivotQuickSort.getInstance().sort(unsorted)).isEqualTo(expected);
+        }
+    }
+}
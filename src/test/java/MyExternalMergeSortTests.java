@@ -0,0 +1,138 @@
+import com.github.skywa04885.MyDualPivotQuickSort;
+import com.github.skywa04885.MyExternalMergeSort;
+import com.github.skywa04885.MyRecordSerializer;
+import com.github.skywa04885.MyTimSort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MyExternalMergeSort Tests")
+public class MyExternalMergeSortTests {
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should sort a file of integers using many runs and multiple merge passes")
+    void shouldSortIntegersUsingMultipleMergePasses() throws IOException {
+        final Random random = new Random(42);
+        final List<Integer> records = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) records.add(random.nextInt());
+
+        final Path input = directory.resolve("input.bin");
+        final Path output = directory.resolve("output.bin");
+        write(input, MyRecordSerializer.integers(), records);
+
+        // 10,000 records in runs of 100 gives 100 runs, which takes three passes when merging four at a time.
+        final Path temporary = Files.createDirectory(directory.resolve("temporary"));
+        new MyExternalMergeSort<>(MyDualPivotQuickSort.getInstance(), MyRecordSerializer.integers(),
+                Comparator.<Integer>naturalOrder(), 100, 4, temporary).sort(input, output);
+
+        records.sort(Comparator.naturalOrder());
+        assertThat(read(output, MyRecordSerializer.integers())).isEqualTo(records);
+
+        try (final var files = Files.list(temporary)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort a file of strings that fits in a single run")
+    void shouldSortStringsInSingleRun() throws IOException {
+        final List<String> records = List.of("pear", "apple", "fig", "banana", "cherry");
+
+        final Path input = directory.resolve("input.bin");
+        final Path output = directory.resolve("output.bin");
+        write(input, MyRecordSerializer.strings(), records);
+
+        new MyExternalMergeSort<>(MyTimSort.getInstance(), MyRecordSerializer.strings(),
+                Comparator.<String>naturalOrder(), 1_000).sort(input, output);
+
+        assertThat(read(output, MyRecordSerializer.strings()))
+                .containsExactly("apple", "banana", "cherry", "fig", "pear");
+    }
+
+    @Test
+    @DisplayName("Should sort an empty file into an empty file")
+    void shouldSortEmptyFile() throws IOException {
+        final Path input = Files.createFile(directory.resolve("input.bin"));
+        final Path output = directory.resolve("output.bin");
+
+        new MyExternalMergeSort<>(MyTimSort.getInstance(), MyRecordSerializer.longs(),
+                Comparator.<Long>naturalOrder(), 10).sort(input, output);
+
+        assertThat(output).isEmptyFile();
+    }
+
+    @Test
+    @DisplayName("Should keep records with equal keys in their original order when the sorter is stable")
+    void shouldKeepEqualKeysInOriginalOrder() throws IOException {
+        final Random random = new Random(42);
+        final List<Item> records = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) records.add(new Item(random.nextInt(10), i));
+
+        final Path input = directory.resolve("input.bin");
+        final Path output = directory.resolve("output.bin");
+        write(input, Item.SERIALIZER, records);
+
+        new MyExternalMergeSort<>(MyTimSort.getInstance(), Item.SERIALIZER, Comparator.comparingInt(Item::key), 64,
+                8, directory).sort(input, output);
+
+        records.sort(Comparator.comparingInt(Item::key));
+        assertThat(read(output, Item.SERIALIZER)).isEqualTo(records);
+    }
+
+    private static <T> void write(final Path file, final MyRecordSerializer<T> serializer, final List<T> records)
+            throws IOException {
+        try (final DataOutputStream output = new DataOutputStream(Files.newOutputStream(file))) {
+            for (final T record : records) {
+                serializer.write(output, record);
+            }
+        }
+    }
+
+    private static <T> List<T> read(final Path file, final MyRecordSerializer<T> serializer) throws IOException {
+        final List<T> records = new ArrayList<>();
+        try (final DataInputStream input = new DataInputStream(Files.newInputStream(file))) {
+            while (true) {
+                try {
+                    records.add(serializer.read(input));
+                } catch (final EOFException e) {
+                    return records;
+                }
+            }
+        }
+    }
+
+    /**
+     * Record that is sorted by its key, so the original order of equal keys can be checked.
+     */
+    private record Item(int key, int order) {
+        private static final MyRecordSerializer<Item> SERIALIZER = new MyRecordSerializer<>() {
+            @Override
+            public void write(final DataOutput output, final Item record) throws IOException {
+                output.writeInt(record.key);
+                output.writeInt(record.order);
+            }
+
+            @Override
+            public Item read(final DataInput input) throws IOException {
+                return new Item(input.readInt(), input.readInt());
+            }
+        };
+    }
+}
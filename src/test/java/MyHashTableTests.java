@@ -39,6 +39,17 @@ class MyHashTableTests {
         assertThat(table.get("A")).contains(20);
     }
 
+    @Test
+    @DisplayName("should not grow load factor when overwriting existing key")
+    void shouldNotGrowLoadFactorWhenOverwritingExistingKey() {
+        final MyHashTable<String, Integer> table = new MyHashTable<>(4);
+
+        table.insert("A", 10);
+        table.insert("A", 20);
+
+        assertThat(table.loadFactor()).isEqualTo(0.25);
+    }
+
     @Test
     @DisplayName("should delete existing key and return its value")
     void shouldDeleteKeyAndReturnValue() {
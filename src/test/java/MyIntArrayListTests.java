@@ -0,0 +1,119 @@
+import com.github.skywa04885.MyIntArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MyIntArrayList Tests")
+class MyIntArrayListTests {
+    @Test
+    @DisplayName("Should be empty when created")
+    void shouldBeEmptyWhenCreated() {
+        final MyIntArrayList list = new MyIntArrayList();
+
+        assertThat(list.size()).isEqualTo(0);
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.toString()).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("Should add values")
+    void shouldAddValues() {
+        final MyIntArrayList list = new MyIntArrayList();
+
+        list.add(7);
+        list.addAll(2, 6);
+
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.get(0)).isEqualTo(7);
+        assertThat(list.get(1)).isEqualTo(2);
+        assertThat(list.get(2)).isEqualTo(6);
+        assertThat(list.toString()).isEqualTo("{7, 2, 6}");
+    }
+
+    @Test
+    @DisplayName("Should add range of values beyond capacity")
+    void shouldAddRangeOfValuesBeyondCapacity() {
+        final MyIntArrayList list = new MyIntArrayList(2);
+        final int[] values = new int[100];
+        for (int i = 0; i < values.length; i++) values[i] = i;
+
+        list.add(-1);
+        list.addAll(values, 10, 90);
+
+        assertThat(list.size()).isEqualTo(81);
+        assertThat(list.get(0)).isEqualTo(-1);
+        assertThat(list.get(1)).isEqualTo(10);
+        assertThat(list.get(80)).isEqualTo(89);
+    }
+
+    @Test
+    @DisplayName("Should throw when range is out of bounds")
+    void shouldThrowWhenRangeIsOutOfBounds() {
+        final MyIntArrayList list = new MyIntArrayList();
+
+        assertThatThrownBy(() -> list.addAll(new int[3], 2, 4))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Should remove only first occurrence")
+    void shouldRemoveOnlyFirstOccurrence() {
+        final MyIntArrayList list = new MyIntArrayList();
+
+        list.addAll(5, 7, 7, 9);
+
+        assertThat(list.remove(7)).isTrue();
+        assertThat(list.remove(42)).isFalse();
+
+        assertThat(list.toArray()).containsExactly(5, 7, 9);
+    }
+
+    @Test
+    @DisplayName("Should return index of first occurrence")
+    void shouldReturnIndexOfFirstOccurrence() {
+        final MyIntArrayList list = new MyIntArrayList();
+
+        list.addAll(5, 7, 7, 9);
+
+        assertThat(list.indexOf(7)).isEqualTo(1);
+        assertThat(list.indexOf(9)).isEqualTo(3);
+        assertThat(list.indexOf(999)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should throw when index out of bounds")
+    void shouldThrowWhenIndexOutOfBounds() {
+        final MyIntArrayList list = new MyIntArrayList();
+
+        list.add(1);
+
+        assertThatThrownBy(() -> list.get(1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.get(-1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Should handle many insertions")
+    void shouldHandleManyInsertions() {
+        final MyIntArrayList list = new MyIntArrayList(0);
+        for (int i = 0; i < 1000; i++) list.add(i);
+
+        assertThat(list.size()).isEqualTo(1000);
+        assertThat(list.get(999)).isEqualTo(999);
+    }
+
+    @Test
+    @DisplayName("Should be empty after clear")
+    void shouldBeEmptyAfterClear() {
+        final MyIntArrayList list = new MyIntArrayList();
+
+        list.addAll(1, 2, 3);
+        list.clear();
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.toArray()).isEmpty();
+    }
+}
@@ -0,0 +1,71 @@
+import com.github.skywa04885.MyIntObjHashTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MyIntObjHashTable Tests")
+class MyIntObjHashTableTests {
+    @Test
+    @DisplayName("should insert, retrieve and delete values")
+    void shouldInsertRetrieveAndDeleteValues() {
+        final MyIntObjHashTable<String> table = new MyIntObjHashTable<>();
+
+        table.insert(1, "one");
+        table.insert(-7, "minus seven");
+        table.insert(1, "uno");
+
+        assertThat(table.get(1)).contains("uno");
+        assertThat(table.get(-7)).contains("minus seven");
+        assertThat(table.get(2)).isEmpty();
+        assertThat(table.size()).isEqualTo(2);
+
+        assertThat(table.delete(1)).contains("uno");
+        assertThat(table.contains(1)).isFalse();
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should store the zero key")
+    void shouldStoreTheZeroKey() {
+        final MyIntObjHashTable<String> table = new MyIntObjHashTable<>();
+
+        assertThat(table.contains(0)).isFalse();
+
+        table.insert(0, "zero");
+
+        assertThat(table.get(0)).contains("zero");
+        assertThat(table.size()).isEqualTo(1);
+        assertThat(table.delete(0)).contains("zero");
+        assertThat(table.getOrDefault(0, "none")).isEqualTo("none");
+        assertThat(table.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("should behave like a hash map under random operations")
+    void shouldBehaveLikeHashMapUnderRandomOperations() {
+        final MyIntObjHashTable<Integer> table = new MyIntObjHashTable<>(2);
+        final Map<Integer, Integer> expected = new HashMap<>();
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            final int key = random.nextInt(2_000) - 1_000;
+            if (random.nextBoolean()) {
+                table.insert(key, i);
+                expected.put(key, i);
+            } else {
+                assertThat(table.delete(key)).isEqualTo(Optional.ofNullable(expected.remove(key)));
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+        for (int key = -1_000; key < 1_000; key++) {
+            assertThat(table.get(key)).isEqualTo(Optional.ofNullable(expected.get(key)));
+        }
+    }
+}
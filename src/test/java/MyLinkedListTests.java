@@ -1,6 +1,15 @@
 import com.github.skywa04885.MyLinkedList;
 import com.github.skywa04885.MyList;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("MyLinkedList Tests")
 public class MyLinkedListTests implements MyListTests {
@@ -8,4 +17,98 @@ public class MyLinkedListTests implements MyListTests {
     public MyList<Integer> createList() {
         return new MyLinkedList<>();
     }
+
+    @Test
+    @DisplayName("Should add and poll at both ends")
+    public void shouldAddAndPollAtBothEnds() {
+        final MyLinkedList<Integer> list = new MyLinkedList<>();
+
+        list.addLast(2);
+        list.addFirst(1);
+        list.addLast(3);
+
+        assertThat(list.toArray(new Integer[0])).containsExactly(1, 2, 3);
+        assertThat(list.peek()).contains(1);
+        assertThat(list.peekLast()).contains(3);
+
+        assertThat(list.pollLast()).contains(3);
+        assertThat(list.pollFirst()).contains(1);
+        assertThat(list.pollFirst()).contains(2);
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.pollFirst()).isEmpty();
+        assertThat(list.pollLast()).isEmpty();
+        assertThat(list.peekFirst()).isEmpty();
+        assertThat(list.peekLast()).isEmpty();
+
+        list.addFirst(4);
+        assertThat(list.get(0)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should behave like a deque")
+    public void shouldBehaveLikeADeque() {
+        final Random random = new Random(42);
+        final MyLinkedList<Integer> list = new MyLinkedList<>();
+        final Deque<Integer> expected = new ArrayDeque<>();
+
+        for (int i = 0; i < 2000; ++i) {
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    list.addFirst(i);
+                    expected.addFirst(i);
+                }
+                case 1 -> {
+                    list.addLast(i);
+                    expected.addLast(i);
+                }
+                case 2 -> assertThat(list.pollFirst()).isEqualTo(Optional.ofNullable(expected.pollFirst()));
+                default -> assertThat(list.pollLast()).isEqualTo(Optional.ofNullable(expected.pollLast()));
+            }
+        }
+
+        final Integer[] values = expected.toArray(new Integer[0]);
+        assertThat(list.size()).isEqualTo(values.length);
+        assertThat(list.toArray(new Integer[0])).isEqualTo(values);
+        for (int i = 0; i < values.length; ++i) {
+            assertThat(list.get(i)).isEqualTo(values[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should remove value by node")
+    public void shouldRemoveValueByNode() {
+        final MyLinkedList<Integer> list = new MyLinkedList<>();
+
+        final MyLinkedList.Node<Integer> first = list.addLast(1);
+        final MyLinkedList.Node<Integer> middle = list.addLast(2);
+        final MyLinkedList.Node<Integer> last = list.addLast(3);
+
+        assertThat(list.remove(middle)).isEqualTo(2);
+        assertThat(list.toArray(new Integer[0])).containsExactly(1, 3);
+
+        assertThat(list.remove(last)).isEqualTo(3);
+        assertThat(list.remove(first)).isEqualTo(1);
+        assertThat(list.isEmpty()).isTrue();
+
+        list.add(4);
+        assertThat(list.peekFirst()).contains(4);
+        assertThat(list.peekLast()).contains(4);
+    }
+
+    @Test
+    @DisplayName("Should throw when removing foreign node")
+    public void shouldThrowWhenRemovingForeignNode() {
+        final MyLinkedList<Integer> list = new MyLinkedList<>();
+        final MyLinkedList<Integer> other = new MyLinkedList<>();
+
+        final MyLinkedList.Node<Integer> node = list.addLast(1);
+        final MyLinkedList.Node<Integer> otherNode = other.addLast(1);
+        list.remove(node);
+
+        assertThatThrownBy(() -> list.remove(node))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> list.remove(otherNode))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
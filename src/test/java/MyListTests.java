@@ -2,6 +2,12 @@ import com.github.skywa04885.MyList;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -225,4 +231,55 @@ public interface MyListTests {
         assertThat(list.indexOf(200)).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Should iterate over values in order")
+    default void shouldIterateOverValuesInOrder() {
+        final MyList<Integer> list = createList();
+
+        list.addAll(5, 7, 7, 9, 3, 1, 8);
+        list.remove(9);
+
+        final List<Integer> values = new ArrayList<>();
+        for (final Integer value : list) {
+            values.add(value);
+        }
+
+        assertThat(values).containsExactly(5, 7, 7, 3, 1, 8);
+    }
+
+    @Test
+    @DisplayName("Should throw when iterating past end")
+    default void shouldThrowWhenIteratingPastEnd() {
+        final MyList<Integer> list = createList();
+
+        list.add(1);
+
+        final Iterator<Integer> iterator = list.iterator();
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next)
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(createList().iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should stream values")
+    default void shouldStreamValues() {
+        final MyList<Integer> list = createList();
+
+        list.addAll(3, 5, 7);
+
+        assertThat(list.stream().map(String::valueOf).collect(Collectors.joining(","))).isEqualTo("3,5,7");
+        assertThat(createList().stream().count()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should stream values in parallel")
+    default void shouldStreamValuesInParallel() {
+        final MyList<Integer> list = createList();
+        for (int i = 0; i < 100_000; ++i) list.add(i);
+
+        assertThat(list.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(99_999L * 100_000L / 2);
+        assertThat(list.parallelStream().toList()).isEqualTo(list.stream().toList());
+    }
 }
@@ -0,0 +1,25 @@
+import com.github.skywa04885.MyLongArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MyLongArrayList Tests")
+class MyLongArrayListTests {
+    @Test
+    @DisplayName("Should add, find and remove values")
+    void shouldAddFindAndRemoveValues() {
+        final MyLongArrayList list = new MyLongArrayList();
+
+        list.addAll(Long.MAX_VALUE, 3L, Long.MIN_VALUE);
+        list.add(3L);
+
+        assertThat(list.size()).isEqualTo(4);
+        assertThat(list.get(0)).isEqualTo(Long.MAX_VALUE);
+        assertThat(list.indexOf(Long.MIN_VALUE)).isEqualTo(2);
+
+        assertThat(list.remove(3L)).isTrue();
+
+        assertThat(list.toArray()).containsExactly(Long.MAX_VALUE, Long.MIN_VALUE, 3L);
+    }
+}
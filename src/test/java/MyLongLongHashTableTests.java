@@ -0,0 +1,55 @@
+import com.github.skywa04885.MyLongLongHashTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MyLongLongHashTable Tests")
+class MyLongLongHashTableTests {
+    @Test
+    @DisplayName("should insert, retrieve and delete values")
+    void shouldInsertRetrieveAndDeleteValues() {
+        final MyLongLongHashTable table = new MyLongLongHashTable();
+
+        table.insert(Long.MAX_VALUE, 1L);
+        table.insert(0L, 2L);
+        table.insert(Long.MIN_VALUE, 3L);
+
+        assertThat(table.get(Long.MAX_VALUE)).hasValue(1L);
+        assertThat(table.get(0L)).hasValue(2L);
+        assertThat(table.getOrDefault(Long.MIN_VALUE, -1L)).isEqualTo(3L);
+        assertThat(table.getOrDefault(5L, -1L)).isEqualTo(-1L);
+        assertThat(table.size()).isEqualTo(3);
+
+        assertThat(table.delete(0L)).hasValue(2L);
+        assertThat(table.delete(0L)).isEmpty();
+        assertThat(table.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should behave like a hash map under random operations")
+    void shouldBehaveLikeHashMapUnderRandomOperations() {
+        final MyLongLongHashTable table = new MyLongLongHashTable(2);
+        final Map<Long, Long> expected = new HashMap<>();
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            // Spread the keys over the upper bits, to make sure those are mixed into the slot as well.
+            final long key = (long) random.nextInt(2_000) << 40;
+            if (random.nextBoolean()) {
+                table.insert(key, i);
+                expected.put(key, (long) i);
+            } else {
+                final Long removed = expected.remove(key);
+                assertThat(table.delete(key).isPresent()).isEqualTo(removed != null);
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(table.getOrDefault(key, -1L)).isEqualTo(value));
+    }
+}
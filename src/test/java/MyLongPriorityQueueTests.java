@@ -0,0 +1,28 @@
+import com.github.skywa04885.MyLongPriorityQueue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MyLongPriorityQueue Tests")
+class MyLongPriorityQueueTests {
+    @Test
+    @DisplayName("Should dequeue values by priorities beyond the int range")
+    void shouldDequeueValuesByLongPriorities() {
+        final MyLongPriorityQueue<String> queue = new MyLongPriorityQueue<>();
+
+        queue.enqueue(1_700_000_000_000L, "C");
+        final int handle = queue.enqueue(Long.MAX_VALUE, "A");
+        queue.enqueue(Long.MIN_VALUE, "B");
+        queue.enqueue(1_700_000_000_001L, "D");
+
+        queue.decreaseKey(handle, Long.MIN_VALUE + 1);
+
+        assertThat(queue.getPriority(handle)).isEqualTo(Long.MIN_VALUE + 1);
+        assertThat(queue.dequeue()).contains("B");
+        assertThat(queue.dequeue()).contains("A");
+        assertThat(queue.dequeue()).contains("C");
+        assertThat(queue.dequeue()).contains("D");
+        assertThat(queue.dequeue()).isEmpty();
+    }
+}
@@ -1,6 +1,12 @@
 import com.github.skywa04885.MyMergeSort;
 import com.github.skywa04885.MySorter;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("MyMergeSort Tests")
 public class MyMergeSortTests implements MySorterTests {
@@ -8,4 +14,19 @@ public class MyMergeSortTests implements MySorterTests {
     public MySorter createSortAlgorithm() {
         return MyMergeSort.getInstance();
     }
+
+    @Test
+    @DisplayName("Should sort partially ordered array without touching the input")
+    void shouldSortPartiallyOrderedArrayWithoutTouchingTheInput() {
+        final Random random = new Random(42);
+        final Integer[] unsorted = new Integer[10_000];
+        for (int i = 0; i < unsorted.length; i++) unsorted[i] = i % 100 == 0 ? random.nextInt(10_000) : i;
+
+        final Integer[] original = unsorted.clone();
+        final Integer[] expected = unsorted.clone();
+        Arrays.sort(expected);
+
+        assertThat(MyMergeSort.getInstance().sort(unsorted)).containsExactly(expected);
+        assertThat(unsorted).containsExactly(original);
+    }
 }
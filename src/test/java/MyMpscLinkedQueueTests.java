@@ -0,0 +1,16 @@
+import com.github.skywa04885.MyMpscLinkedQueue;
+import com.github.skywa04885.MyConcurrentQueue;
+import org.junit.jupiter.api.DisplayName;
+
+@DisplayName("MyMpscLinkedQueue Tests")
+public class MyMpscLinkedQueueTests implements MyConcurrentQueueTests {
+    @Override
+    public MyConcurrentQueue<Integer> createQueue(final int capacity) {
+        return new MyMpscLinkedQueue<>();
+    }
+
+    @Override
+    public int producerCount() {
+        return 4;
+    }
+}
@@ -0,0 +1,113 @@
+import com.github.skywa04885.MyOpenHashTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MyOpenHashTable Tests")
+class MyOpenHashTableTests {
+    @Test
+    @DisplayName("should insert, overwrite and retrieve values")
+    void shouldInsertOverwriteAndRetrieveValues() {
+        final MyOpenHashTable<String, Integer> table = new MyOpenHashTable<>();
+
+        table.insert("A", 1);
+        table.insert("B", 2);
+        table.insert("A", 3);
+
+        assertThat(table.get("A")).contains(3);
+        assertThat(table.get("B")).contains(2);
+        assertThat(table.get("missing")).isEmpty();
+        assertThat(table.getOrDefault("missing", -1)).isEqualTo(-1);
+        assertThat(table.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should delete existing key and return its value")
+    void shouldDeleteKeyAndReturnValue() {
+        final MyOpenHashTable<String, String> table = new MyOpenHashTable<>();
+
+        table.insert("X", "value");
+
+        assertThat(table.delete("X")).contains("value");
+        assertThat(table.delete("X")).isEmpty();
+        assertThat(table.contains("X")).isFalse();
+        assertThat(table.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("should keep colliding keys reachable after deleting one of them")
+    void shouldKeepCollidingKeysReachableAfterDeletion() {
+        final MyOpenHashTable<Object, String> table = new MyOpenHashTable<>(64);
+        final Object[] keys = new Object[5];
+
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Object() {
+                @Override
+                public int hashCode() {
+                    return 42;
+                }
+            };
+            table.insert(keys[i], "value" + i);
+        }
+
+        table.delete(keys[1]);
+
+        assertThat(table.get(keys[0])).contains("value0");
+        assertThat(table.get(keys[1])).isEmpty();
+        assertThat(table.get(keys[2])).contains("value2");
+        assertThat(table.get(keys[4])).contains("value4");
+    }
+
+    @Test
+    @DisplayName("should grow and keep load factor at most one half")
+    void shouldGrowAndKeepLoadFactorAtMostOneHalf() {
+        final MyOpenHashTable<Integer, Integer> table = new MyOpenHashTable<>(2);
+
+        for (int i = 0; i < 1000; i++) {
+            table.insert(i, i);
+        }
+
+        assertThat(table.size()).isEqualTo(1000);
+        assertThat(table.loadFactor()).isLessThanOrEqualTo(0.5);
+        assertThat(table.get(777)).contains(777);
+    }
+
+    @Test
+    @DisplayName("should reject null keys")
+    void shouldRejectNullKeys() {
+        final MyOpenHashTable<String, String> table = new MyOpenHashTable<>();
+
+        assertThatThrownBy(() -> table.insert(null, "value"))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("should behave like a hash map under random operations")
+    void shouldBehaveLikeHashMapUnderRandomOperations() {
+        final MyOpenHashTable<Integer, Integer> table = new MyOpenHashTable<>();
+        final Map<Integer, Integer> expected = new HashMap<>();
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            final int key = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                table.insert(key, i);
+                expected.put(key, i);
+            } else {
+                assertThat(table.delete(key)).isEqualTo(Optional.ofNullable(expected.remove(key)));
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+        for (int key = 0; key < 2_000; key++) {
+            assertThat(table.get(key)).isEqualTo(Optional.ofNullable(expected.get(key)));
+        }
+    }
+}
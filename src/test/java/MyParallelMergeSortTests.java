@@ -0,0 +1,62 @@
+import com.github.skywa04885.MyParallelMergeSort;
+import com.github.skywa04885.MySorter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MyParallelMergeSort Tests")
+public class MyParallelMergeSortTests implements MySorterTests {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Override
+    public MySorter createSortAlgorithm() {
+        // Use a tiny threshold, so even the small inputs of the shared tests are sorted in parallel.
+        return new MyParallelMergeSort(POOL, 4);
+    }
+
+    @Test
+    @DisplayName("Should sort large random array")
+    void shouldSortLargeRandomArray() {
+        final Random random = new Random(42);
+        final Integer[] unsorted = new Integer[100_000];
+        for (int i = 0; i < unsorted.length; i++) unsorted[i] = random.nextInt(1_000);
+
+        final Integer[] expected = unsorted.clone();
+        Arrays.sort(expected);
+
+        assertThat(new MyParallelMergeSort(POOL, 1_000).sort(unsorted)).containsExactly(expected);
+        assertThat(MyParallelMergeSort.getInstance().sort(unsorted)).containsExactly(expected);
+    }
+
+    @Test
+    @DisplayName("Should keep equal values in their original order")
+    void shouldKeepEqualValuesInOriginalOrder() {
+        final Random random = new Random(42);
+        final Item[] unsorted = new Item[10_000];
+        for (int i = 0; i < unsorted.length; i++) unsorted[i] = new Item(random.nextInt(10), i);
+
+        final Item[] sorted = new MyParallelMergeSort(POOL, 16).sort(unsorted);
+
+        for (int i = 1; i < sorted.length; i++) {
+            assertThat(sorted[i - 1].key).isLessThanOrEqualTo(sorted[i].key);
+            if (sorted[i - 1].key == sorted[i].key) {
+                assertThat(sorted[i - 1].order).isLessThan(sorted[i].order);
+            }
+        }
+    }
+
+    /**
+     * Value that is only compared by its key, so the original order of equal values can be checked.
+     */
+    private record Item(int key, int order) implements Comparable<Item> {
+        @Override
+        public int compareTo(final Item other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+import com.github.skywa04885.MyPrimitiveSorter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public interface MyPrimitiveSorterTests {
+    MyPrimitiveSorter createPrimitiveSorter();
+
+    @Test
+    @DisplayName("Should sort empty primitive arrays")
+    default void shouldSortEmptyPrimitiveArrays() {
+        final MyPrimitiveSorter sorter = createPrimitiveSorter();
+
+        assertThat(sorter.sort(new int[0])).isEmpty();
+        assertThat(sorter.sort(new long[0])).isEmpty();
+        assertThat(sorter.sort(new double[0])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should sort ints")
+    default void shouldSortInts() {
+        final MyPrimitiveSorter sorter = createPrimitiveSorter();
+
+        final int[] unsorted = {27, -83, Integer.MAX_VALUE, 14, 99, -42, 0, Integer.MIN_VALUE, -7, 63, 14, -100};
+
+        final int[] sorted = sorter.sort(unsorted);
+
+        assertThat(sorted).containsExactly(Integer.MIN_VALUE, -100, -83, -42, -7, 0, 14, 14, 27, 63, 99,
+                Integer.MAX_VALUE);
+        assertThat(unsorted[0]).isEqualTo(27);
+    }
+
+    @Test
+    @DisplayName("Should sort longs")
+    default void shouldSortLongs() {
+        final MyPrimitiveSorter sorter = createPrimitiveSorter();
+
+        final long[] unsorted = {27L, Long.MIN_VALUE, -83L, 1L << 40, 99L, -(1L << 40), 0L, Long.MAX_VALUE, -7L};
+
+        final long[] sorted = sorter.sort(unsorted);
+
+        assertThat(sorted).containsExactly(Long.MIN_VALUE, -(1L << 40), -83L, -7L, 0L, 27L, 99L, 1L << 40,
+                Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should sort doubles in the order of Double.compare")
+    default void shouldSortDoubles() {
+        final MyPrimitiveSorter sorter = createPrimitiveSorter();
+
+        final double[] unsorted = {
+                3.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -2.25, 0.0, Double.POSITIVE_INFINITY, -0.0,
+                Double.MIN_VALUE, -100.0
+        };
+
+        final double[] sorted = sorter.sort(unsorted);
+
+        final double[] expected = unsorted.clone();
+        Arrays.sort(expected);
+
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(Double.compare(sorted[i], expected[i])).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort large random, sorted, reversed and few unique inputs")
+    default void shouldSortLargeInputs() {
+        final MyPrimitiveSorter sorter = createPrimitiveSorter();
+        final Random random = new Random(42);
+        final int size = 100_000;
+
+        final int[][] inputs = new int[4][size];
+        for (int i = 0; i < size; i++) {
+            inputs[0][i] = random.nextInt();
+            inputs[1][i] = i;
+            inputs[2][i] = size - i;
+            inputs[3][i] = random.nextInt(8) - 4;
+        }
+
+        for (final int[] unsorted : inputs) {
+            final int[] expectedInts = unsorted.clone();
+            Arrays.sort(expectedInts);
+            assertThat(sorter.sort(unsorted)).isEqualTo(expectedInts);
+
+            final long[] longs = new long[size];
+            final double[] doubles = new double[size];
+            for (int i = 0; i < size; i++) {
+                longs[i] = (long) unsorted[i] * 31L;
+                doubles[i] = unsorted[i] / 7.0;
+            }
+
+            final long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedLongs);
+            assertThat(sorter.sort(longs)).isEqualTo(expectedLongs);
+
+            final double[] expectedDoubles = doubles.clone();
+            Arrays.sort(expectedDoubles);
+            assertThat(sorter.sort(doubles)).isEqualTo(expectedDoubles);
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort values by their int keys, keeping equal keys in their original order")
+    default void shouldSortByIntKey() {
+        final MyPrimitiveSorter sorter = createPrimitiveSorter();
+        final Random random = new Random(42);
+
+        final Item[] unsorted = new Item[10_000];
+        for (int i = 0; i < unsorted.length; i++) unsorted[i] = new Item(random.nextInt(100) - 50, i);
+
+        final Item[] sorted = sorter.sortByIntKey(unsorted, Item::key);
+
+        assertThat(sorted).containsExactlyInAnyOrder(unsorted);
+        for (int i = 1; i < sorted.length; i++) {
+            assertThat(sorted[i - 1].key).isLessThanOrEqualTo(sorted[i].key);
+            if (sorted[i - 1].key == sorted[i].key) {
+                assertThat(sorted[i - 1].order).isLessThan(sorted[i].order);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort values by their long keys, keeping equal keys in their original order")
+    default void shouldSortByLongKey() {
+        final MyPrimitiveSorter sorter = createPrimitiveSorter();
+        final Random random = new Random(42);
+
+        final Item[] unsorted = new Item[10_000];
+        for (int i = 0; i < unsorted.length; i++) unsorted[i] = new Item(random.nextInt(100) - 50, i);
+
+        final Item[] sorted = sorter.sortByLongKey(unsorted, item -> (long) item.key * Integer.MAX_VALUE);
+
+        assertThat(sorted).containsExactlyInAnyOrder(unsorted);
+        for (int i = 1; i < sorted.length; i++) {
+            assertThat(sorted[i - 1].key).isLessThanOrEqualTo(sorted[i].key);
+            if (sorted[i - 1].key == sorted[i].key) {
+                assertThat(sorted[i - 1].order).isLessThan(sorted[i].order);
+            }
+        }
+    }
+
+    /**
+     * Value that is sorted by its key, so the original order of equal keys can be checked.
+     */
+    record Item(int key, int order) {
+    }
+}
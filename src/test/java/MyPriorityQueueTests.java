@@ -2,9 +2,12 @@ import com.github.skywa04885.MyPriorityQueue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
 import java.util.Optional;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class MyPriorityQueueTests {
 
@@ -130,4 +133,247 @@ class MyPriorityQueueTests {
 
         assertThat(pq.dequeue()).isEmpty();
     }
+
+    @Test
+    @DisplayName("should track size and emptiness")
+    void shouldTrackSizeAndEmptiness() {
+        MyPriorityQueue<String> pq = new MyPriorityQueue<>();
+
+        assertThat(pq.isEmpty()).isTrue();
+        assertThat(pq.size()).isEqualTo(0);
+
+        pq.enqueue(2, "B");
+        pq.enqueue(1, "A");
+
+        assertThat(pq.isEmpty()).isFalse();
+        assertThat(pq.size()).isEqualTo(2);
+
+        pq.dequeue();
+        pq.dequeue();
+
+        assertThat(pq.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should move element to front when its priority is decreased")
+    void shouldMoveElementToFrontWhenPriorityDecreased() {
+        MyPriorityQueue<String> pq = new MyPriorityQueue<>();
+
+        pq.enqueue(10, "A");
+        pq.enqueue(20, "B");
+        final int handle = pq.enqueue(30, "C");
+
+        pq.decreaseKey(handle, 5);
+
+        assertThat(pq.getPriority(handle)).isEqualTo(5);
+        assertThat(pq.dequeue()).contains("C");
+        assertThat(pq.dequeue()).contains("A");
+        assertThat(pq.dequeue()).contains("B");
+    }
+
+    @Test
+    @DisplayName("should reject increasing priority through decrease key")
+    void shouldRejectIncreasingPriorityThroughDecreaseKey() {
+        MyPriorityQueue<String> pq = new MyPriorityQueue<>();
+
+        final int handle = pq.enqueue(10, "A");
+
+        assertThatThrownBy(() -> pq.decreaseKey(handle, 11))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should move element in both directions when its priority is updated")
+    void shouldMoveElementInBothDirectionsWhenPriorityUpdated() {
+        MyPriorityQueue<String> pq = new MyPriorityQueue<>();
+
+        final int a = pq.enqueue(1, "A");
+        pq.enqueue(2, "B");
+        final int c = pq.enqueue(3, "C");
+        pq.enqueue(4, "D");
+
+        pq.updatePriority(a, 10);
+        pq.updatePriority(c, 0);
+
+        assertThat(pq.dequeue()).contains("C");
+        assertThat(pq.dequeue()).contains("B");
+        assertThat(pq.dequeue()).contains("D");
+        assertThat(pq.dequeue()).contains("A");
+    }
+
+    @Test
+    @DisplayName("should remove element by handle")
+    void shouldRemoveElementByHandle() {
+        MyPriorityQueue<Integer> pq = new MyPriorityQueue<>();
+        final int[] handles = new int[10];
+
+        for (int i = 0; i < 10; i++) {
+            handles[i] = pq.enqueue(i, i);
+        }
+
+        assertThat(pq.remove(handles[0])).isEqualTo(0);
+        assertThat(pq.remove(handles[5])).isEqualTo(5);
+        assertThat(pq.remove(handles[9])).isEqualTo(9);
+
+        assertThat(pq.contains(handles[5])).isFalse();
+        assertThat(pq.size()).isEqualTo(7);
+
+        for (final int expected : new int[]{1, 2, 3, 4, 6, 7, 8}) {
+            assertThat(pq.dequeue()).contains(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("should invalidate handle once element is dequeued")
+    void shouldInvalidateHandleOnceElementDequeued() {
+        MyPriorityQueue<String> pq = new MyPriorityQueue<>();
+
+        final int handle = pq.enqueue(1, "A");
+        pq.dequeue();
+
+        assertThat(pq.contains(handle)).isFalse();
+        assertThatThrownBy(() -> pq.remove(handle))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should keep heap order under random priority updates")
+    void shouldKeepHeapOrderUnderRandomPriorityUpdates() {
+        MyPriorityQueue<Integer> pq = new MyPriorityQueue<>();
+        final Random random = new Random(42);
+        final int count = 500;
+        final int[] handles = new int[count];
+        final int[] priorities = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            priorities[i] = random.nextInt(10_000);
+            handles[i] = pq.enqueue(priorities[i], i);
+        }
+
+        for (int i = 0; i < count; i++) {
+            final int index = random.nextInt(count);
+            priorities[index] = random.nextInt(10_000);
+            pq.updatePriority(handles[index], priorities[index]);
+        }
+
+        int previous = Integer.MIN_VALUE;
+        while (!pq.isEmpty()) {
+            final int priority = priorities[pq.dequeue().orElseThrow()];
+            assertThat(priority).isGreaterThanOrEqualTo(previous);
+            previous = priority;
+        }
+    }
+
+    @Test
+    @DisplayName("should order values with equal priorities by the comparator")
+    void shouldOrderEqualPrioritiesByComparator() {
+        MyPriorityQueue<String> pq = new MyPriorityQueue<>(Comparator.naturalOrder());
+
+        pq.enqueue(10, "C");
+        pq.enqueue(10, "A");
+        pq.enqueue(5, "Z");
+        pq.enqueue(10, "B");
+        final int handle = pq.enqueue(20, "D");
+        pq.enqueue(10, "E");
+        pq.remove(handle);
+
+        assertThat(pq.dequeue()).contains("Z");
+        assertThat(pq.dequeue()).contains("A");
+        assertThat(pq.dequeue()).contains("B");
+        assertThat(pq.dequeue()).contains("C");
+        assertThat(pq.dequeue()).contains("E");
+        assertThat(pq.dequeue()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should order values by the comparator alone when created without priorities")
+    void shouldOrderValuesByComparatorAlone() {
+        MyPriorityQueue<Integer> pq = MyPriorityQueue.orderedBy(2, Comparator.reverseOrder());
+        final Random random = new Random(42);
+        final int[] handles = new int[1_000];
+
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = pq.enqueue(random.nextInt(10_000));
+        }
+        for (int i = 0; i < handles.length; i += 3) {
+            pq.remove(handles[i]);
+        }
+
+        int previous = Integer.MAX_VALUE;
+        while (!pq.isEmpty()) {
+            final int value = pq.dequeue().orElseThrow();
+            assertThat(value).isLessThanOrEqualTo(previous);
+            previous = value;
+        }
+    }
+
+    @Test
+    @DisplayName("should reject priorities when created without priorities")
+    void shouldRejectPrioritiesWhenCreatedWithoutPriorities() {
+        MyPriorityQueue<String> ordered = MyPriorityQueue.orderedBy(Comparator.naturalOrder());
+        final int handle = ordered.enqueue("A");
+
+        assertThatThrownBy(() -> ordered.enqueue(1, "B")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ordered.getPriority(handle)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ordered.updatePriority(handle, 1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new MyPriorityQueue<String>().enqueue("A")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("should keep heap order for every arity")
+    void shouldKeepHeapOrderForEveryArity() {
+        for (final int arity : new int[] {2, 4, 8}) {
+            MyPriorityQueue<Integer> pq = new MyPriorityQueue<>(arity);
+            final Random random = new Random(arity);
+            final int count = 1_000;
+            final int[] handles = new int[count];
+            final int[] priorities = new int[count];
+            final boolean[] removed = new boolean[count];
+
+            assertThat(pq.getArity()).isEqualTo(arity);
+
+            for (int i = 0; i < count; i++) {
+                priorities[i] = random.nextInt(10_000);
+                handles[i] = pq.enqueue(priorities[i], i);
+            }
+
+            for (int i = 0; i < count; i++) {
+                final int index = random.nextInt(count);
+                if (removed[index]) continue;
+
+                if (random.nextInt(4) == 0) {
+                    assertThat(pq.remove(handles[index])).isEqualTo(index);
+                    removed[index] = true;
+                } else {
+                    priorities[index] = random.nextInt(10_000);
+                    pq.updatePriority(handles[index], priorities[index]);
+                }
+            }
+
+            int previous = Integer.MIN_VALUE;
+            int dequeued = 0;
+            while (!pq.isEmpty()) {
+                final int index = pq.dequeue().orElseThrow();
+                assertThat(removed[index]).isFalse();
+                assertThat(priorities[index]).isGreaterThanOrEqualTo(previous);
+                previous = priorities[index];
+                ++dequeued;
+            }
+
+            int remaining = 0;
+            for (final boolean wasRemoved : removed) {
+                if (!wasRemoved) ++remaining;
+            }
+            assertThat(dequeued).isEqualTo(remaining);
+        }
+    }
+
+    @Test
+    @DisplayName("should reject an unsupported arity")
+    void shouldRejectUnsupportedArity() {
+        assertThatThrownBy(() -> new MyPriorityQueue<String>(3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MyPriorityQueue<String>(16))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,11 @@
+import com.github.skywa04885.MyPrimitiveSorter;
+import com.github.skywa04885.MyRadixSort;
+import org.junit.jupiter.api.DisplayName;
+
+@DisplayName("MyRadixSort Tests")
+public class MyRadixSortTests implements MyPrimitiveSorterTests {
+    @Override
+    public MyPrimitiveSorter createPrimitiveSorter() {
+        return MyRadixSort.getInstance();
+    }
+}
@@ -0,0 +1,140 @@
+import com.github.skywa04885.MySelection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MySelection Tests")
+public class MySelectionTests {
+    @Test
+    @DisplayName("Should select the k-th smallest value and partition the array around it")
+    void shouldSelectKthSmallest() {
+        final Random random = new Random(42);
+
+        for (final int bound : new int[]{5, 1_000, Integer.MAX_VALUE}) {
+            final Integer[] array = new Integer[10_001];
+            for (int i = 0; i < array.length; i++) array[i] = random.nextInt(bound);
+
+            final Integer[] sorted = array.clone();
+            Arrays.sort(sorted);
+
+            for (final int k : new int[]{0, 1, 17, 5_000, 9_999, 10_000}) {
+                final Integer[] work = array.clone();
+
+                assertThat(MySelection.select(work, k)).isEqualTo(sorted[k]);
+                for (int i = 0; i < k; i++) assertThat(work[i]).isLessThanOrEqualTo(work[k]);
+                for (int i = k + 1; i < work.length; i++) assertThat(work[i]).isGreaterThanOrEqualTo(work[k]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should select from sorted, reversed and organ pipe inputs")
+    void shouldSelectFromStructuredInputs() {
+        final int size = 20_000;
+        final Integer[] ascending = new Integer[size];
+        final Integer[] descending = new Integer[size];
+        final Integer[] organPipe = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            ascending[i] = i;
+            descending[i] = size - i;
+            organPipe[i] = Math.min(i, size - i);
+        }
+
+        for (final Integer[] array : new Integer[][]{ascending, descending, organPipe}) {
+            final Integer[] sorted = array.clone();
+            Arrays.sort(sorted);
+
+            assertThat(MySelection.median(array.clone())).isEqualTo(sorted[(size - 1) / 2]);
+            assertThat(MySelection.select(array.clone(), size / 10)).isEqualTo(sorted[size / 10]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should select in linear time against an adversarial comparator")
+    void shouldSelectInLinearTimeAgainstAdversary() {
+        // McIlroy's adversary: every value starts out undecided, and when two undecided values are compared, one of
+        //  them is fixed to be smaller than all undecided values. This keeps picking the pivots that remove the fewest
+        //  values from the range, unless the selection stops trusting cheap pivots.
+        final int n = 100_000;
+        final int undecided = n;
+        final int[] values = new int[n];
+        Arrays.fill(values, undecided);
+        final int[] fixed = { 0 };
+        final int[] candidate = { -1 };
+        final long[] comparisons = { 0 };
+
+        final Comparator<Integer> adversary = (a, b) -> {
+            ++comparisons[0];
+            if (values[a] == undecided && values[b] == undecided) {
+                values[a == candidate[0] ? a : b] = fixed[0]++;
+            }
+            if (values[a] == undecided) {
+                candidate[0] = a;
+            } else if (values[b] == undecided) {
+                candidate[0] = b;
+            }
+            return Integer.compare(values[a], values[b]);
+        };
+
+        final Integer[] array = new Integer[n];
+        for (int i = 0; i < n; i++) array[i] = i;
+
+        final Integer median = MySelection.select(array, n / 2, adversary);
+
+        for (int i = 0; i < n / 2; i++) assertThat(values[array[i]]).isLessThanOrEqualTo(values[median]);
+        for (int i = n / 2 + 1; i < n; i++) assertThat(values[array[i]]).isGreaterThanOrEqualTo(values[median]);
+        assertThat(comparisons[0]).isLessThan(15L * n);
+    }
+
+    @Test
+    @DisplayName("Should select using a comparator")
+    void shouldSelectUsingComparator() {
+        final String[] array = {"pear", "fig", "banana", "kiwi", "apple"};
+
+        assertThat(MySelection.select(array, 0, Comparator.comparingInt(String::length))).isEqualTo("fig");
+        assertThat(MySelection.median(array, Comparator.reverseOrder())).isEqualTo("fig");
+    }
+
+    @Test
+    @DisplayName("Should reject ranks that are out of bounds")
+    void shouldRejectRanksOutOfBounds() {
+        assertThatThrownBy(() -> MySelection.select(new Integer[]{1, 2}, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> MySelection.select(new Integer[0], 0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Should find the k smallest values in ascending order")
+    void shouldFindKSmallest() {
+        final Random random = new Random(42);
+        final List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) values.add(random.nextInt(100_000));
+
+        final List<Integer> sorted = new ArrayList<>(values);
+        sorted.sort(Comparator.naturalOrder());
+
+        assertThat(MySelection.topK(values, 10)).isEqualTo(sorted.subList(0, 10));
+        assertThat(MySelection.topK(values, 1_000)).isEqualTo(sorted.subList(0, 1_000));
+        assertThat(MySelection.topK(values, 5, Comparator.reverseOrder()))
+                .isEqualTo(sorted.reversed().subList(0, 5));
+    }
+
+    @Test
+    @DisplayName("Should return all values when k exceeds their number, and none when k is zero")
+    void shouldHandleSmallAndLargeK() {
+        final List<Integer> values = List.of(3, 1, 2);
+
+        assertThat(MySelection.topK(values, 10)).containsExactly(1, 2, 3);
+        assertThat(MySelection.topK(values, 0)).isEmpty();
+        assertThatThrownBy(() -> MySelection.topK(values, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
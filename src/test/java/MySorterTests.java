@@ -2,7 +2,12 @@ import com.github.skywa04885.MySorter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public interface MySorterTests {
     MySorter createSortAlgorithm();
@@ -60,4 +65,80 @@ public interface MySorterTests {
                 68.2f, 77.1f, 81.5f, 94.2f, 99.3f, 100.0f
         );
     }
+
+    @Test
+    @DisplayName("Should sort using a comparator")
+    default void shouldSortUsingComparator() {
+        final MySorter sortAlgorithm = createSortAlgorithm();
+
+        final Integer[] unsorted = {27, -83, 14, 99, -42, 0, -7, 63, -100, 58};
+
+        final Integer[] sorted = sortAlgorithm.sort(unsorted, Comparator.reverseOrder());
+
+        assertThat(sorted).containsExactly(99, 63, 58, 27, 14, 0, -7, -42, -83, -100);
+    }
+
+    @Test
+    @DisplayName("Should sort values without a natural order by a comparator on one of their fields")
+    default void shouldSortByComparatorOnField() {
+        final MySorter sortAlgorithm = createSortAlgorithm();
+
+        final Person[] unsorted = {
+                new Person("Dave", 41), new Person("Alice", 29), new Person("Eve", 35), new Person("Bob", 17)
+        };
+
+        final Person[] sorted = sortAlgorithm.sort(unsorted, Comparator.comparingInt(Person::age));
+
+        assertThat(sorted).extracting(Person::name).containsExactly("Bob", "Alice", "Eve", "Dave");
+    }
+
+    @Test
+    @DisplayName("Should sort a range in place, leaving the rest of the array untouched")
+    default void shouldSortRangeInPlace() {
+        final MySorter sortAlgorithm = createSortAlgorithm();
+
+        final Integer[] array = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+
+        sortAlgorithm.sortInPlace(array, 2, 8);
+
+        assertThat(array).containsExactly(9, 8, 2, 3, 4, 5, 6, 7, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Should sort a large range in place")
+    default void shouldSortLargeRangeInPlace() {
+        final MySorter sortAlgorithm = createSortAlgorithm();
+        final Random random = new Random(42);
+
+        final Integer[] array = new Integer[5_000];
+        for (int i = 0; i < array.length; i++) array[i] = random.nextInt(1_000);
+
+        final Integer[] expected = array.clone();
+        Arrays.sort(expected, 500, 4_500);
+
+        sortAlgorithm.sortInPlace(array, 500, 4_500);
+
+        assertThat(array).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should reject ranges that are out of bounds")
+    default void shouldRejectRangesOutOfBounds() {
+        final MySorter sortAlgorithm = createSortAlgorithm();
+
+        final Integer[] array = {3, 2, 1};
+
+        assertThatThrownBy(() -> sortAlgorithm.sortInPlace(array, -1, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> sortAlgorithm.sortInPlace(array, 0, 4))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> sortAlgorithm.sortInPlace(array, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * Value without a natural order.
+     */
+    record Person(String name, int age) {
+    }
 }
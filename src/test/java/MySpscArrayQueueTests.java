@@ -0,0 +1,36 @@
+import com.github.skywa04885.MySpscArrayQueue;
+import com.github.skywa04885.MyConcurrentQueue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MySpscArrayQueue Tests")
+public class MySpscArrayQueueTests implements MyConcurrentQueueTests {
+    @Override
+    public MyConcurrentQueue<Integer> createQueue(final int capacity) {
+        return new MySpscArrayQueue<>(capacity);
+    }
+
+    @Override
+    public int producerCount() {
+        return 1;
+    }
+
+    @Test
+    @DisplayName("Should reject values when full")
+    public void shouldRejectValuesWhenFull() {
+        final MySpscArrayQueue<Integer> queue = new MySpscArrayQueue<>(3);
+
+        assertThat(queue.capacity()).isEqualTo(4);
+        for (int i = 0; i < 4; ++i) {
+            assertThat(queue.offer(i)).isTrue();
+        }
+        assertThat(queue.offer(4)).isFalse();
+        assertThat(queue.size()).isEqualTo(4);
+
+        assertThat(queue.poll()).contains(0);
+        assertThat(queue.offer(4)).isTrue();
+        assertThat(queue.offer(5)).isFalse();
+    }
+}
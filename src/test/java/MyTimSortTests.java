@@ -0,0 +1,130 @@
+import com.github.skywa04885.MySorter;
+import com.github.skywa04885.MyTimSort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MyTimSort Tests")
+public class MyTimSortTests implements MySorterTests {
+    @Override
+    public MySorter createSortAlgorithm() {
+        return MyTimSort.getInstance();
+    }
+
+    @Test
+    @DisplayName("Should sort inputs made of ascending and descending runs")
+    void shouldSortInputsMadeOfRuns() {
+        final Random random = new Random(42);
+
+        for (final int size : new int[]{31, 32, 65, 1_000, 50_000}) {
+            final Integer[] unsorted = new Integer[size];
+
+            // Build the input from runs of random length and direction, sprinkled with some random values.
+            int i = 0;
+            while (i < size) {
+                final int runLength = Math.min(size - i, 1 + random.nextInt(200));
+                final boolean descending = random.nextBoolean();
+                final int start = random.nextInt(1_000);
+                for (int j = 0; j < runLength; j++) {
+                    unsorted[i + j] = descending ? start - j : start + j;
+                }
+                i += runLength;
+            }
+            for (int j = 0; j < size / 50; j++) {
+                unsorted[random.nextInt(size)] = random.nextInt(1_000);
+            }
+
+            final Integer[] expected = unsorted.clone();
+            Arrays.sort(expected);
+
+            assertThat(MyTimSort.getInstance().sort(unsorted)).containsExactly(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort random, sorted and reversed inputs")
+    void shouldSortRandomSortedAndReversedInputs() {
+        final Random random = new Random(42);
+        final Integer[] randomInput = new Integer[100_000];
+        final Integer[] sortedInput = new Integer[100_000];
+        final Integer[] reversedInput = new Integer[100_000];
+
+        for (int i = 0; i < randomInput.length; i++) {
+            randomInput[i] = random.nextInt();
+            sortedInput[i] = i;
+            reversedInput[i] = randomInput.length - i;
+        }
+
+        for (final Integer[] unsorted : new Integer[][]{randomInput, sortedInput, reversedInput}) {
+            final Integer[] expected = unsorted.clone();
+            Arrays.sort(expected);
+
+            assertThat(MyTimSort.getInstance().sort(unsorted)).containsExactly(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort nearly sorted inputs in close to linear comparisons")
+    void shouldSortNearlySortedInputsInLinearComparisons() {
+        final int size = 100_000;
+        final Integer[] sorted = new Integer[size];
+        final Integer[] reversed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = i;
+            reversed[i] = size - i;
+        }
+
+        // Shuffle blocks of consecutive values, so only the block boundaries are out of order.
+        final Random random = new Random(42);
+        final int blockLength = size / 16;
+        final Integer[] blocks = new Integer[size];
+        final int[] order = random.ints(0, 16).distinct().limit(16).toArray();
+        for (int b = 0; b < order.length; b++) {
+            for (int j = 0; j < blockLength; j++) {
+                blocks[b * blockLength + j] = order[b] * blockLength + j;
+            }
+        }
+
+        for (final Integer[] unsorted : new Integer[][]{sorted, reversed, blocks}) {
+            final long[] comparisons = { 0 };
+            final Integer[] result = MyTimSort.getInstance().sort(unsorted, (a, b) -> {
+                ++comparisons[0];
+                return Integer.compare(a, b);
+            });
+
+            assertThat(result).isSorted();
+            assertThat(comparisons[0]).isLessThan(2L * size);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep equal values in their original order")
+    void shouldKeepEqualValuesInOriginalOrder() {
+        final Random random = new Random(42);
+        final Item[] unsorted = new Item[10_000];
+        for (int i = 0; i < unsorted.length; i++) unsorted[i] = new Item(random.nextInt(10), i);
+
+        final Item[] sorted = MyTimSort.getInstance().sort(unsorted);
+
+        for (int i = 1; i < sorted.length; i++) {
+            assertThat(sorted[i - 1].key).isLessThanOrEqualTo(sorted[i].key);
+            if (sorted[i - 1].key == sorted[i].key) {
+                assertThat(sorted[i - 1].order).isLessThan(sorted[i].order);
+            }
+        }
+    }
+
+    /**
+     * Value that is only compared by its key, so the original order of equal values can be checked.
+     */
+    private record Item(int key, int order) implements Comparable<Item> {
+        @Override
+        public int compareTo(final Item other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+}
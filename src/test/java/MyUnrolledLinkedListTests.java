@@ -0,0 +1,87 @@
+import com.github.skywa04885.MyList;
+import com.github.skywa04885.MyUnrolledLinkedList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MyUnrolledLinkedList Tests")
+public class MyUnrolledLinkedListTests implements MyListTests {
+    @Override
+    public MyList<Integer> createList() {
+        // Small nodes, so the shared tests cross node boundaries.
+        return new MyUnrolledLinkedList<>(4);
+    }
+
+    @Test
+    @DisplayName("Should behave like a list across nodes")
+    public void shouldBehaveLikeAListAcrossNodes() {
+        final Random random = new Random(42);
+
+        for (final int nodeCapacity : new int[] { 1, 2, 3, 8 }) {
+            final MyUnrolledLinkedList<Integer> list = new MyUnrolledLinkedList<>(nodeCapacity);
+            final List<Integer> expected = new ArrayList<>();
+
+            // Mix additions and removals, so nodes get emptied, merged and appended to.
+            for (int i = 0; i < 2000; ++i) {
+                final Integer value = random.nextInt(64);
+                if (random.nextInt(3) == 0) {
+                    assertThat(list.remove(value)).isEqualTo(expected.remove(value));
+                } else {
+                    list.add(value);
+                    expected.add(value);
+                }
+            }
+
+            assertThat(list.size()).isEqualTo(expected.size());
+            assertThat(list.nodeCount()).isLessThan(2 * expected.size() / nodeCapacity + 2);
+            assertThat(list.toArray(new Integer[0])).isEqualTo(expected.toArray(new Integer[0]));
+            for (int i = 0; i < expected.size(); ++i) {
+                assertThat(list.get(i)).isEqualTo(expected.get(i));
+            }
+            for (int value = 0; value < 64; ++value) {
+                assertThat(list.indexOf(value)).isEqualTo(expected.indexOf(value));
+            }
+
+            list.add(-1);
+            assertThat(list.get(list.size() - 1)).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should merge a node that shrank into the previous node")
+    public void shouldMergeNodeIntoPreviousNode() {
+        final MyUnrolledLinkedList<Integer> list = new MyUnrolledLinkedList<>(4);
+        for (int i = 0; i < 12; ++i) {
+            list.add(i);
+        }
+
+        // Shrink the middle node, which still doesn't fit together with either neighbour.
+        list.remove(4);
+        list.remove(5);
+        list.remove(6);
+        assertThat(list.nodeCount()).isEqualTo(3);
+
+        // Shrink the last node, which now fits together with the middle one.
+        list.remove(9);
+        list.remove(10);
+        list.remove(11);
+        assertThat(list.nodeCount()).isEqualTo(2);
+        assertThat(list.toArray(new Integer[0])).containsExactly(0, 1, 2, 3, 7, 8);
+
+        list.add(12);
+        assertThat(list.toArray(new Integer[0])).containsExactly(0, 1, 2, 3, 7, 8, 12);
+    }
+
+    @Test
+    @DisplayName("Should throw when node capacity is not positive")
+    public void shouldThrowWhenNodeCapacityIsNotPositive() {
+        assertThatThrownBy(() -> new MyUnrolledLinkedList<Integer>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}